@@ -11,5 +11,7 @@ public final class EclipseArtemisConstants {
 	public static final Version MINIMUM_ARTEMIS_VERSION_INCLUSIVE = new Version(6, 0, 0);
 	public static final Version MAXIMUM_ARTEMIS_VERSION_EXCLUSIVE = new Version(7, 0, 0);
 
+	public static final String ASSESSMENT_MARKER_TYPE = "edu.kit.kastel.eclipse.common.view.assessment.marker";
+
 	public static final String GRADING_WIKI_URL = "https://github.com/kit-sdq/programming-lecture-eclipse-artemis/wiki";
 }
@@ -16,6 +16,10 @@ public final class PreferenceConstants {
 	public static final String GRADING_VIEW_BUTTONS_IN_COLUMN = "grading_buttons_in_column";
 	public static final String GRADING_VIEW_PREFERS_LARGE_PENALTY_TEXT_PATH = "userPreferresLargePenaltyText";
 	public static final String GRADING_VIEW_PREFERS_TEXT_WRAPPING_IN_PENALTY_TEXT_PATH = "userPrefersTextWrappingInPenaltyText";
+	public static final String GRADING_PREFETCH_DEPTH = "gradingPrefetchDepth";
+	public static final String GRADING_HIBERNATE_AFTER_MINUTES = "gradingHibernateAfterMinutes";
+	public static final String GRADING_MAX_OPEN_PROJECTS = "gradingMaxOpenProjects";
+	public static final String GRADING_AUTOSAVE_DELAY_SECONDS = "gradingAutosaveDelaySeconds";
 
 	public static final String GENERAL_OVERRIDE_DEFAULT_PREFERENCES = "override_default_preferences";
 	public static final String GENERAL_PREFERRED_LANGUAGE = "preferredLanguageSelector";
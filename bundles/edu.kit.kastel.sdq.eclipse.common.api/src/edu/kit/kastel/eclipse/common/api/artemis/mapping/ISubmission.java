@@ -12,4 +12,9 @@ public interface ISubmission extends Serializable {
 	int getSubmissionId();
 
 	int getCorrectionRound();
+
+	/**
+	 * @return the hash of the submitted commit, null if unknown
+	 */
+	String getCommitHash();
 }
@@ -0,0 +1,54 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.api.client;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
+
+/**
+ * Helpers for the asynchronous variants of the Artemis clients.
+ */
+public final class ClientFutures {
+
+	private ClientFutures() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * Waits for the given future and unwraps the {@link ArtemisClientException}
+	 * it was completed with (if any).
+	 *
+	 * @param future the future of an asynchronous client call
+	 * @return the result of the call
+	 * @throws ArtemisClientException if the call failed or was cancelled
+	 */
+	public static <T> T await(CompletableFuture<T> future) throws ArtemisClientException {
+		try {
+			return future.join();
+		} catch (CancellationException e) {
+			throw new ArtemisClientException("Request has been cancelled", e);
+		} catch (CompletionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * Maps a failure of an asynchronous call back to the exception the
+	 * synchronous call would have thrown.
+	 *
+	 * @param throwable the exception the future was completed with
+	 * @return the original {@link ArtemisClientException} or a wrapping one
+	 */
+	public static ArtemisClientException unwrap(Throwable throwable) {
+		Throwable cause = throwable;
+		while (cause instanceof CompletionException && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+		if (cause instanceof ArtemisClientException artemisClientException) {
+			return artemisClientException;
+		}
+		return new ArtemisClientException(cause.getMessage(), cause);
+	}
+}
@@ -2,6 +2,7 @@
 package edu.kit.kastel.eclipse.common.api.client;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.AssessmentResult;
@@ -27,6 +28,12 @@ public interface IAssessmentArtemisClient {
 
 	ILockResult startAssessment(ISubmission submission) throws ArtemisClientException;
 
+	/**
+	 * Asynchronous variant of {@link #startAssessment(ISubmission)}. The future
+	 * completes exceptionally with an {@link ArtemisClientException} on failure.
+	 */
+	CompletableFuture<ILockResult> startAssessmentAsync(ISubmission submission);
+
 	/**
 	 * Starts an assessment for any available submission (determined by artemis).
 	 * Acquires a lock in the process.
@@ -40,6 +47,20 @@ public interface IAssessmentArtemisClient {
 	 */
 	Optional<ILockResult> startNextAssessment(IExercise exercise, int correctionRound) throws ArtemisClientException;
 
+	/**
+	 * Asynchronous variant of {@link #startNextAssessment(IExercise, int)}.
+	 */
+	CompletableFuture<Optional<ILockResult>> startNextAssessmentAsync(IExercise exercise, int correctionRound);
+
+	/**
+	 * Releases the lock of a started, but not yet submitted assessment. The
+	 * submission can be assessed by other tutors afterwards.
+	 *
+	 * @param submission the locked submission
+	 * @throws ArtemisClientException if the lock could not be released
+	 */
+	void cancelAssessment(ISubmission submission) throws ArtemisClientException;
+
 	/**
 	 * Submit the assessment to Artemis. Must have been started by
 	 * {@link #startAssessment(int)} or {@link #startNextAssessment(int, int)}
@@ -55,6 +76,12 @@ public interface IAssessmentArtemisClient {
 	 */
 	void saveAssessment(int participationId, boolean submit, AssessmentResult assessment) throws ArtemisClientException;
 
+	/**
+	 * Asynchronous variant of
+	 * {@link #saveAssessment(int, boolean, AssessmentResult)}.
+	 */
+	CompletableFuture<Void> saveAssessmentAsync(int participationId, boolean submit, AssessmentResult assessment);
+
 	/**
 	 * Get statistics for exercise.
 	 * 
@@ -62,4 +89,9 @@ public interface IAssessmentArtemisClient {
 	 * @return the statistics
 	 */
 	ExerciseStats getStats(IExercise exercise) throws ArtemisClientException;
+
+	/**
+	 * Asynchronous variant of {@link #getStats(IExercise)}.
+	 */
+	CompletableFuture<ExerciseStats> getStatsAsync(IExercise exercise);
 }
@@ -2,6 +2,7 @@
 package edu.kit.kastel.eclipse.common.api.client;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ICourse;
@@ -18,4 +19,10 @@ public interface ICourseArtemisClient {
 	 * @throws ArtemisClientException if some errors occur while parsing the result.
 	 */
 	List<ICourse> getCoursesForAssessment() throws ArtemisClientException;
+
+	/**
+	 * Asynchronous variant of {@link #getCoursesForAssessment()}. The future
+	 * completes exceptionally with an {@link ArtemisClientException} on failure.
+	 */
+	CompletableFuture<List<ICourse>> getCoursesForAssessmentAsync();
 }
@@ -1,6 +1,8 @@
 /* Licensed under EPL-2.0 2022. */
 package edu.kit.kastel.eclipse.common.api.client;
 
+import java.util.concurrent.CompletableFuture;
+
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.Feedback;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ParticipationDTO;
@@ -18,4 +20,11 @@ public interface IFeedbackArtemisClient {
 	 * ArtmisClientException.
 	 */
 	Feedback[] getFeedbackForResult(ParticipationDTO participation, ResultsDTO result) throws ArtemisClientException;
+
+	/**
+	 * Asynchronous variant of
+	 * {@link #getFeedbackForResult(ParticipationDTO, ResultsDTO)}. The future
+	 * completes exceptionally with an {@link ArtemisClientException} on failure.
+	 */
+	CompletableFuture<Feedback[]> getFeedbackForResultAsync(ParticipationDTO participation, ResultsDTO result);
 }
@@ -1,6 +1,8 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.api.client;
 
+import java.util.concurrent.CompletableFuture;
+
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ICourse;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
@@ -21,4 +23,14 @@ public interface IParticipationArtemisClient {
 	 * result.
 	 */
 	ParticipationDTO getParticipationWithLatestResult(int participationId) throws ArtemisClientException;
+
+	/**
+	 * Asynchronous variant of {@link #getParticipation(ICourse, IExercise)}.
+	 */
+	CompletableFuture<ParticipationDTO> getParticipationAsync(ICourse course, IExercise exercise);
+
+	/**
+	 * Asynchronous variant of {@link #getParticipationWithLatestResult(int)}.
+	 */
+	CompletableFuture<ParticipationDTO> getParticipationWithLatestResultAsync(int participationId);
 }
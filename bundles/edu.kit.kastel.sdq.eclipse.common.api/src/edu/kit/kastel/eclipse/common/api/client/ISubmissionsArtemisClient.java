@@ -3,6 +3,7 @@ package edu.kit.kastel.eclipse.common.api.client;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
@@ -10,13 +11,25 @@ import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
 
 public interface ISubmissionsArtemisClient {
 	default List<ISubmission> getSubmissions(IExercise exercise) throws ArtemisClientException {
-		List<ISubmission> submissions = new ArrayList<>(this.getSubmissions(exercise, 0));
+		// both correction rounds are requested at once
+		return ClientFutures.await(this.getSubmissionsAsync(exercise));
+	}
 
-		if (exercise.hasSecondCorrectionRound()) {
-			submissions.addAll(this.getSubmissions(exercise, 1));
+	/**
+	 * Asynchronous variant of {@link #getSubmissions(IExercise)}. The correction
+	 * rounds are requested concurrently.
+	 */
+	default CompletableFuture<List<ISubmission>> getSubmissionsAsync(IExercise exercise) {
+		CompletableFuture<List<ISubmission>> firstRound = this.getSubmissionsAsync(exercise, 0);
+		if (!exercise.hasSecondCorrectionRound()) {
+			return firstRound;
 		}
 
-		return submissions;
+		return firstRound.thenCombine(this.getSubmissionsAsync(exercise, 1), (first, second) -> {
+			List<ISubmission> submissions = new ArrayList<>(first);
+			submissions.addAll(second);
+			return submissions;
+		});
 	}
 
 	/**
@@ -28,6 +41,12 @@ public interface ISubmissionsArtemisClient {
 	 */
 	List<ISubmission> getSubmissions(IExercise exercise, int correctionRound) throws ArtemisClientException;
 
+	/**
+	 * Asynchronous variant of {@link #getSubmissions(IExercise, int)}. The future
+	 * completes exceptionally with an {@link ArtemisClientException} on failure.
+	 */
+	CompletableFuture<List<ISubmission>> getSubmissionsAsync(IExercise exercise, int correctionRound);
+
 	/**
 	 *
 	 * @param IExercise    exercise to load submission.
@@ -37,4 +56,9 @@ public interface ISubmissionsArtemisClient {
 	 */
 	ISubmission getSubmissionById(IExercise artemisExercise, int submissionId) throws ArtemisClientException;
 
+	/**
+	 * Asynchronous variant of {@link #getSubmissionById(IExercise, int)}.
+	 */
+	CompletableFuture<ISubmission> getSubmissionByIdAsync(IExercise artemisExercise, int submissionId);
+
 }
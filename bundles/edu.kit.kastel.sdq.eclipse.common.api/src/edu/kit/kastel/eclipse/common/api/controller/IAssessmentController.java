@@ -87,5 +87,43 @@ public interface IAssessmentController extends IController {
 
 	double getCurrentPenaltyForRatingGroup(IRatingGroup ratingGroup);
 
+	/**
+	 * Registers a listener that is notified with the rating groups whose penalty
+	 * may have changed. Adding the same listener twice has no effect.
+	 */
+	void addPenaltyListener(IPenaltyListener listener);
+
+	void removePenaltyListener(IPenaltyListener listener);
+
 	boolean isPositiveFeedbackAllowed();
+
+	/**
+	 * A counter that changes whenever the annotations or the configuration of this
+	 * assessment change.
+	 */
+	long getStateVersion();
+
+	/**
+	 * Records that the state with the given {@link #getStateVersion() version} has
+	 * been saved to Artemis.
+	 */
+	void markSaved(long stateVersion);
+
+	/**
+	 * @return whether the current state differs from the one last saved to Artemis.
+	 */
+	boolean hasUnsavedChanges();
+
+	/**
+	 * Stops saving this assessment automatically in the background and waits for
+	 * a save that is already running, so it cannot overtake a following submit or
+	 * reset. Changes that have not been saved are kept locally and restored when
+	 * the submission is opened again.
+	 */
+	void stopAutosave();
+
+	/**
+	 * Saves this assessment automatically again after {@link #stopAutosave()}.
+	 */
+	void resumeAutosave();
 }
@@ -3,6 +3,9 @@ package edu.kit.kastel.eclipse.common.api.controller;
 
 import java.io.File;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
@@ -16,6 +19,26 @@ public interface IExerciseArtemisController extends IController {
 	/**
 	 * Clones exercise and a submission into one project.
 	 */
-	void downloadExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy)
+	default void downloadExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy)
+			throws ArtemisClientException {
+		this.downloadExerciseAndSubmission(exercise, submission, dir, namingStrategy, new NullProgressMonitor());
+	}
+
+	/**
+	 * Clones exercise and a submission into one project. Reports the progress to
+	 * the given monitor; cancelling it aborts the download.
+	 */
+	void downloadExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy,
+			IProgressMonitor monitor) throws ArtemisClientException;
+
+	/**
+	 * Resets an already downloaded project to the state of the submission: fetches
+	 * the submission, resets both repositories and removes untracked files.
+	 *
+	 * @throws ArtemisClientException if the project could not be reused, e.g.,
+	 *                                because the commit of the submission is not
+	 *                                available
+	 */
+	void refreshExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy)
 			throws ArtemisClientException;
 }
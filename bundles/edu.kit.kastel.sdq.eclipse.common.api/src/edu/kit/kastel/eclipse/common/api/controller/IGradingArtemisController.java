@@ -22,9 +22,19 @@ public interface IGradingArtemisController extends IArtemisController {
 	 *                     artemis?
 	 * @param exerciseName the exercise name is used to internally identify which
 	 *                     annotations should be sent.
-	 * @return whether the operation was successful.
+	 * @return whether the assessment has been sent. Saving (not submitting) an
+	 *         assessment without unsaved changes sends nothing.
 	 */
-	boolean saveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission, boolean submit);
+	SaveResult saveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission, boolean submit);
+
+	/**
+	 * Like {@link #saveAssessment(IAssessmentController, IExercise, ISubmission, boolean)}
+	 * without submitting, but reports failures to the caller instead of the view.
+	 * Meant for background jobs.
+	 *
+	 * @throws ArtemisClientException if the assessment could not be sent
+	 */
+	SaveResult trySaveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission) throws ArtemisClientException;
 
 	/**
 	 * Starts an assessment for the given submission. Acquires a lock in the
@@ -32,6 +42,14 @@ public interface IGradingArtemisController extends IArtemisController {
 	 */
 	void startAssessment(ISubmission submissionId);
 
+	/**
+	 * Like {@link #startAssessment(ISubmission)}, but reports failures to the
+	 * caller instead of the view. Meant for background jobs.
+	 *
+	 * @throws ArtemisClientException if the submission could not be locked
+	 */
+	void lockAssessment(ISubmission submission) throws ArtemisClientException;
+
 	/**
 	 * Starts the next assessment of the given correction round. Which one is smh
 	 * determined by artemis.
@@ -45,6 +63,22 @@ public interface IGradingArtemisController extends IArtemisController {
 	 */
 	Optional<ISubmission> startNextAssessment(IExercise exercise, int correctionRound);
 
+	/**
+	 * Like {@link #startNextAssessment(IExercise, int)}, but reports failures to
+	 * the caller instead of the view. Meant for background jobs.
+	 *
+	 * @return the locked submission or Optional.empty(), if no assessment is left
+	 * @throws ArtemisClientException if the submission could not be locked
+	 */
+	Optional<ISubmission> lockNextAssessment(IExercise exercise, int correctionRound) throws ArtemisClientException;
+
+	/**
+	 * Releases the lock of a started assessment without submitting it.
+	 *
+	 * @throws ArtemisClientException if the lock could not be released
+	 */
+	void cancelAssessment(ISubmission submission) throws ArtemisClientException;
+
 	/**
 	 * Get statistics for exercise.
 	 * 
@@ -55,9 +55,11 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	/**
 	 * <B>ASSESSMENT</B><br/>
 	 * <li>Saves the assessment to Artemis.
+	 * <li>Does nothing if Artemis already has the current state.
 	 *
+	 * @return whether the assessment has been sent.
 	 */
-	void saveAssessment();
+	SaveResult saveAssessment();
 
 	/**
 	 * <B>BACKLOG</B><br/>
@@ -89,6 +91,26 @@ public interface IGradingSystemwideController extends ISystemwideController {
 	 */
 	boolean startCorrectionRound2();
 
+	/**
+	 * <B>ASSESSMENT</B><br/>
+	 * <li>Releases the locks of all submissions that have been prepared in
+	 * advance, but not assessed. Deletes their projects.
+	 *
+	 * @param wait whether to release them before returning (e.g., when the
+	 *             workbench shuts down) instead of in the background
+	 */
+	void releasePreparedSubmissions(boolean wait);
+
+	/**
+	 * <B>BACKLOG</B><br/>
+	 * <li>Locks, downloads and imports all begun submissions of the current
+	 * exercise in the background, so they can be loaded from the backlog without
+	 * waiting. An interrupted preparation is continued the next time the exercise
+	 * is selected.
+	 *
+	 */
+	void prepareBacklog();
+
 	/**
 	 * <B>ASSESSMENT</B><br/>
 	 * <li>Saves and submits the assessment to Artemis. Deletes project (in eclipse
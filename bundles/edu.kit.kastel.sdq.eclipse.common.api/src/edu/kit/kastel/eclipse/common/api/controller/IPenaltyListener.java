@@ -0,0 +1,14 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.api.controller;
+
+import java.util.Set;
+
+import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
+
+/**
+ * Notified when the penalties of rating groups may have changed, e.g., because
+ * an annotation has been added.
+ */
+public interface IPenaltyListener {
+	void onPenaltiesChanged(Set<IRatingGroup> ratingGroups);
+}
@@ -0,0 +1,19 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.api.controller;
+
+/**
+ * The outcome of saving an assessment.
+ * <ul>
+ * <li>{@link SaveResult#SAVED} the assessment has been sent to Artemis</li>
+ * <li>{@link SaveResult#UNCHANGED} nothing has been sent, as Artemis already
+ * has the current state</li>
+ * <li>{@link SaveResult#FAILED} the assessment could not be sent</li>
+ * </ul>
+ */
+public enum SaveResult {
+	SAVED, UNCHANGED, FAILED;
+
+	public boolean isSuccessful() {
+		return this != FAILED;
+	}
+}
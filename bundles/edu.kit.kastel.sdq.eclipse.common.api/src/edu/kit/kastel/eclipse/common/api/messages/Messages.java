@@ -21,4 +21,6 @@ public class Messages {
 	public static final String GIT_PUSH_FAILED = "Git push failed for path: ";
 	public static final String GIT_PULL_FAILED = "Git push failed for path: ";
 	public static final String GIT_RESET_FAILED = "Git reset failed for path: ";
+	public static final String GIT_FETCH_FAILED = "Git fetch failed for path: ";
+	public static final String GIT_CONFIG_FAILED = "Git config could not be changed for path: ";
 }
@@ -0,0 +1,43 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.api.model;
+
+import java.util.Collection;
+
+/**
+ * The number of annotations of a mistake type and the sum of their custom
+ * penalties. This is all most penalty rules need (see
+ * {@link IMistakeType#supportsAggregate()}).
+ */
+public record AnnotationAggregate(int count, double customPenaltySum) {
+	public static final AnnotationAggregate EMPTY = new AnnotationAggregate(0, 0.D);
+
+	public static AnnotationAggregate of(Collection<? extends IAnnotation> annotations) {
+		if (annotations.isEmpty()) {
+			return EMPTY;
+		}
+		return new AnnotationAggregate(annotations.size(), annotations.stream().mapToDouble(annotation -> annotation.getCustomPenalty().orElse(0.D)).sum());
+	}
+
+	/**
+	 * @return this aggregate with the annotation added
+	 */
+	public AnnotationAggregate plus(IAnnotation annotation) {
+		return new AnnotationAggregate(this.count + 1, this.customPenaltySum + annotation.getCustomPenalty().orElse(0.D));
+	}
+
+	/**
+	 * @return this aggregate without the annotation, which must have been added
+	 *         before
+	 */
+	public AnnotationAggregate minus(IAnnotation annotation) {
+		if (this.count <= 1) {
+			// no rounding errors left over from the subtraction
+			return EMPTY;
+		}
+		return new AnnotationAggregate(this.count - 1, this.customPenaltySum - annotation.getCustomPenalty().orElse(0.D));
+	}
+
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+}
@@ -19,6 +19,20 @@ public interface IMistakeType {
 	 */
 	double calculate(List<IAnnotation> annotations);
 
+	/**
+	 * Like {@link #calculate(List)}, but only based on the number of annotations
+	 * and their custom penalties.
+	 *
+	 * @throws UnsupportedOperationException if not {@link #supportsAggregate()}
+	 */
+	double calculate(AnnotationAggregate aggregate);
+
+	/**
+	 * @return whether the penalty can be calculated from an
+	 *         {@link AnnotationAggregate} instead of the annotations.
+	 */
+	boolean supportsAggregate();
+
 	/**
 	 *
 	 * @return what should be used as unique id.
@@ -54,6 +68,14 @@ public interface IMistakeType {
 	 */
 	String getTooltip(String languageKey, List<IAnnotation> annotations);
 
+	/**
+	 * Like {@link #getTooltip(String, List)}, but only based on the number of
+	 * annotations and their custom penalties.
+	 *
+	 * @throws UnsupportedOperationException if not {@link #supportsAggregate()}
+	 */
+	String getTooltip(String languageKey, AnnotationAggregate aggregate);
+
 	/**
 	 * Indicates whether this is a custom penalty.
 	 *
@@ -0,0 +1,30 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.git;
+
+/**
+ * Defines how much of a repository {@link GitHandler#cloneRepo} transfers.
+ *
+ * @param depth        the number of commits to fetch, 0 for the full history
+ * @param singleBranch whether only the default branch should be fetched
+ */
+public record CloneOptions(int depth, boolean singleBranch) {
+	/**
+	 * All branches with their full history.
+	 */
+	public static final CloneOptions FULL = new CloneOptions(0, false);
+
+	/**
+	 * Only the latest commit of the default branch. Sufficient for grading.
+	 */
+	public static final CloneOptions LATEST = new CloneOptions(1, true);
+
+	public CloneOptions {
+		if (depth < 0) {
+			throw new IllegalArgumentException("Depth must not be negative: " + depth);
+		}
+	}
+
+	public boolean isShallow() {
+		return this.depth > 0;
+	}
+}
@@ -3,10 +3,20 @@ package edu.kit.kastel.eclipse.common.client.git;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.LsRemoteCommand;
 import org.eclipse.jgit.api.PullCommand;
 import org.eclipse.jgit.api.PullResult;
 import org.eclipse.jgit.api.PushCommand;
@@ -16,7 +26,16 @@ import org.eclipse.jgit.api.TransportCommand;
 import org.eclipse.jgit.api.TransportConfigCallback;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.errors.NoWorkTreeException;
+import org.eclipse.jgit.errors.NotSupportedException;
+import org.eclipse.jgit.errors.TransportException;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ProgressMonitor;
+import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.Transport;
 import org.eclipse.jgit.transport.TransportHttp;
 import org.eclipse.jgit.transport.URIish;
@@ -26,32 +45,225 @@ import edu.kit.kastel.eclipse.common.api.messages.Messages;
 
 public final class GitHandler {
 
+	private static final ILog log = Platform.getLog(GitHandler.class);
+
 	private static final String REMOTE_NAME = "origin";
 
+	/**
+	 * Clones all branches of the given repository with their full history.
+	 */
 	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials) throws GitException {
-		Repository repository = null;
+		cloneRepo(destination, repoURL, credentials, CloneOptions.FULL);
+	}
+
+	/**
+	 * Clones the given repository. A shallow clone is retried as full clone if the
+	 * server does not support shallow clones. Other errors are not retried.
+	 */
+	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials, CloneOptions options) throws GitException {
+		cloneRepo(destination, repoURL, credentials, options, NullProgressMonitor.INSTANCE);
+	}
+
+	/**
+	 * Like {@link #cloneRepo(File, String, GitCredentials, CloneOptions)}, but
+	 * reports the progress to the given monitor.
+	 */
+	public static void cloneRepo(final File destination, String repoURL, GitCredentials credentials, CloneOptions options, ProgressMonitor progress)
+			throws GitException {
+		if (options.isShallow()) {
+			try {
+				clone(destination, repoURL, credentials, options, progress);
+				return;
+			} catch (final Exception e) {
+				deleteQuietly(destination);
+				if (!isShallowNotSupported(e)) {
+					// e.g., wrong credentials or a missing repository, a full clone would fail as well
+					throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+				}
+				log.warn("The server of " + repoURL + " does not support shallow clones, falling back to a full clone: " + e.getMessage());
+			}
+		}
+
 		try {
-			CloneCommand cloneRepository = Git.cloneRepository();
-			cloneRepository.setDirectory(destination);
-			cloneRepository.setRemote(REMOTE_NAME);
-			cloneRepository.setURI(String.valueOf(new URIish(repoURL)));
+			clone(destination, repoURL, credentials, options.isShallow() ? CloneOptions.FULL : options, progress);
+		} catch (final Exception e) {
+			deleteQuietly(destination);
+			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+		}
+	}
+
+	private static void clone(final File destination, String repoURL, GitCredentials credentials, CloneOptions options, ProgressMonitor progress)
+			throws GitAPIException, URISyntaxException {
+		String uri = String.valueOf(new URIish(repoURL));
+		CloneCommand cloneRepository = Git.cloneRepository();
+		cloneRepository.setDirectory(destination);
+		cloneRepository.setRemote(REMOTE_NAME);
+		cloneRepository.setURI(uri);
+		cloneRepository.setCloneSubmodules(false);
+		cloneRepository.setProgressMonitor(progress);
+		makeAuth(cloneRepository, credentials);
+
+		if (options.isShallow()) {
+			cloneRepository.setDepth(options.depth());
+		}
+		Optional<String> defaultBranch = options.singleBranch() ? findDefaultBranch(uri, credentials) : Optional.empty();
+		if (defaultBranch.isPresent()) {
+			cloneRepository.setCloneAllBranches(false);
+			cloneRepository.setBranchesToClone(List.of(defaultBranch.get()));
+			cloneRepository.setBranch(defaultBranch.get());
+		} else {
 			cloneRepository.setCloneAllBranches(true);
-			cloneRepository.setCloneSubmodules(false);
-			makeAuth(cloneRepository, credentials);
+		}
 
-			Git git = cloneRepository.call();
-			repository = git.getRepository();
-		} catch (final Exception e) {
-			try {
-				FileUtils.delete(destination, FileUtils.RECURSIVE);
-			} catch (IOException ioe) {
-				// NOP
+		cloneRepository.call().close();
+	}
+
+	/**
+	 * @return whether the clone failed because the server (or the transport) does
+	 *         not support fetching with a depth
+	 */
+	private static boolean isShallowNotSupported(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if ((cause instanceof TransportException || cause instanceof NotSupportedException) && cause.getMessage() != null) {
+				String message = cause.getMessage().toLowerCase(Locale.ROOT);
+				if (message.contains("shallow") || message.contains("depth")) {
+					return true;
+				}
 			}
+		}
+		return false;
+	}
+
+	/**
+	 * Creates a bare mirror of all refs of the given repository. Other repositories
+	 * can be cloned from the mirror locally.
+	 */
+	public static void mirrorRepo(final File destination, String repoURL, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+		try {
+			CloneCommand mirrorRepository = Git.cloneRepository();
+			mirrorRepository.setDirectory(destination);
+			mirrorRepository.setRemote(REMOTE_NAME);
+			mirrorRepository.setURI(String.valueOf(new URIish(repoURL)));
+			mirrorRepository.setMirror(true);
+			mirrorRepository.setProgressMonitor(progress);
+			makeAuth(mirrorRepository, credentials);
+
+			mirrorRepository.call().close();
+		} catch (final Exception e) {
+			deleteQuietly(destination);
 			throw new GitException(Messages.GIT_CLONE_FAILED + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Fetches from origin, e.g., to update a mirror created by {@link #mirrorRepo}.
+	 * Only new objects are transferred, refs deleted on the remote are deleted
+	 * locally as well.
+	 */
+	public static void fetchRepo(File repo, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+		Git git = openGit(repo);
+
+		FetchCommand fetchCommand = git.fetch().setRemote(REMOTE_NAME).setRemoveDeletedRefs(true).setProgressMonitor(progress);
+		makeAuth(fetchCommand, credentials);
+
+		try {
+			fetchCommand.call();
+		} catch (GitAPIException e) {
+			throw new GitException(Messages.GIT_FETCH_FAILED + repo.getPath(), e);
 		} finally {
-			if (repository != null) {
-				repository.close();
-			}
+			git.close();
+		}
+	}
+
+	/**
+	 * Fetches a single commit from origin with the given depth, e.g., because it
+	 * is not part of the history of a shallow clone.
+	 */
+	public static void fetchCommit(File repo, String commitHash, int depth, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+		Git git = openGit(repo);
+
+		FetchCommand fetchCommand = git.fetch().setRemote(REMOTE_NAME).setRefSpecs(new RefSpec(commitHash)).setDepth(depth).setProgressMonitor(progress);
+		makeAuth(fetchCommand, credentials);
+
+		try {
+			fetchCommand.call();
+		} catch (GitAPIException e) {
+			throw new GitException(Messages.GIT_FETCH_FAILED + repo.getPath(), e);
+		} finally {
+			git.close();
+		}
+	}
+
+	/**
+	 * @return whether the given commit is available in the given repository
+	 */
+	public static boolean hasCommit(File repo, String commitHash) throws GitException {
+		Git git = openGit(repo);
+		try {
+			return findCommit(git.getRepository(), commitHash) != null;
+		} catch (IOException e) {
+			throw new GitException(Messages.GIT_OPEN_FAILED + repo.getPath(), e);
+		} finally {
+			git.close();
+		}
+	}
+
+	/**
+	 * @return whether the origin of the given repository is the given URL
+	 */
+	public static boolean hasRemoteUrl(File repo, String repoURL) throws GitException {
+		Git git = openGit(repo);
+		try {
+			String remoteUrl = git.getRepository().getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, REMOTE_NAME,
+					ConfigConstants.CONFIG_KEY_URL);
+			return String.valueOf(new URIish(repoURL)).equals(remoteUrl);
+		} catch (URISyntaxException e) {
+			return false;
+		} finally {
+			git.close();
+		}
+	}
+
+	/**
+	 * Points the origin of the given repository to another URL, e.g., after it has
+	 * been cloned from a local mirror.
+	 */
+	public static void setRemoteUrl(File repo, String repoURL) throws GitException {
+		Git git = openGit(repo);
+		try {
+			git.remoteSetUrl().setRemoteName(REMOTE_NAME).setRemoteUri(new URIish(repoURL)).call();
+		} catch (GitAPIException | URISyntaxException e) {
+			throw new GitException(Messages.GIT_CONFIG_FAILED + repo.getPath(), e);
+		} finally {
+			git.close();
+		}
+	}
+
+	/**
+	 * @return the branch the remote HEAD points to (e.g., refs/heads/main)
+	 */
+	private static Optional<String> findDefaultBranch(String uri, GitCredentials credentials) throws GitAPIException {
+		LsRemoteCommand lsRemote = Git.lsRemoteRepository().setRemote(uri);
+		makeAuth(lsRemote, credentials);
+		Map<String, Ref> refs = lsRemote.callAsMap();
+
+		Ref head = refs.get(Constants.HEAD);
+		if (head == null) {
+			return Optional.empty();
+		}
+		if (head.isSymbolic()) {
+			return Optional.of(head.getTarget().getName());
+		}
+		// the server did not advertise the symbolic ref, guess it by the commit
+		return refs.values().stream().filter(ref -> ref.getName().startsWith(Constants.R_HEADS))
+				.filter(ref -> head.getObjectId().equals(ref.getObjectId())).map(Ref::getName).findFirst();
+	}
+
+	private static void deleteQuietly(final File destination) {
+		try {
+			FileUtils.delete(destination, FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+		} catch (IOException ioe) {
+			// NOP
 		}
 	}
 
@@ -121,6 +333,59 @@ public final class GitHandler {
 		}
 	}
 
+	/**
+	 * Resets the work tree to the given commit and removes all untracked files,
+	 * except for the given top-level paths (e.g., the Eclipse metadata).
+	 *
+	 * @param commitHash the commit, fails if it is not available. If null, the
+	 *                   work tree is reset to the remote-tracking branch.
+	 * @param keep       paths relative to the work tree that must not be removed
+	 */
+	public static void resetAndClean(File repo, String commitHash, Set<String> keep) throws GitException {
+		Git git = openGit(repo);
+
+		try {
+			ObjectId target = resolveResetTarget(git.getRepository(), commitHash);
+			git.reset().setMode(ResetType.HARD).setRef(target.getName()).call();
+
+			Status status = git.status().call();
+			Set<String> untracked = new HashSet<>(status.getUntracked());
+			untracked.addAll(status.getUntrackedFolders());
+			untracked.removeIf(path -> keep.stream().anyMatch(kept -> path.equals(kept) || path.startsWith(kept + "/")));
+			// an empty set of paths would clean everything
+			if (!untracked.isEmpty()) {
+				git.clean().setPaths(untracked).setCleanDirectories(true).call();
+			}
+		} catch (IOException | NoWorkTreeException | GitAPIException e) {
+			throw new GitException(Messages.GIT_RESET_FAILED + repo.getPath(), e);
+		} finally {
+			git.close();
+		}
+	}
+
+	private static ObjectId resolveResetTarget(Repository repository, String commitHash) throws IOException, GitException {
+		if (commitHash != null) {
+			ObjectId commit = findCommit(repository, commitHash);
+			if (commit == null) {
+				throw new GitException(Messages.GIT_RESET_FAILED + repository.getDirectory() + ", commit " + commitHash + " is not available");
+			}
+			return commit;
+		}
+		ObjectId tracked = repository.resolve(Constants.R_REMOTES + REMOTE_NAME + "/" + repository.getBranch());
+		if (tracked == null) {
+			tracked = repository.resolve(Constants.HEAD);
+		}
+		if (tracked == null) {
+			throw new GitException(Messages.GIT_RESET_FAILED + repository.getDirectory());
+		}
+		return tracked;
+	}
+
+	private static ObjectId findCommit(Repository repository, String commitHash) throws IOException {
+		ObjectId commit = repository.resolve(commitHash);
+		return commit != null && repository.getObjectDatabase().has(commit) ? commit : null;
+	}
+
 	private static Git openGit(File repo) throws GitException {
 		try {
 			return Git.open(repo);
@@ -0,0 +1,79 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.git;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jgit.lib.ProgressMonitor;
+
+/**
+ * Reports the progress of a JGit operation as sub task of an Eclipse
+ * {@link IProgressMonitor}. Several instances may share one monitor, e.g., for
+ * transfers that run concurrently; access to the monitor is synchronized on
+ * it. Cancelling the monitor aborts the JGit operation.
+ */
+public final class GitProgressMonitor implements ProgressMonitor {
+	private final IProgressMonitor monitor;
+	private final String label;
+
+	private String task = "";
+	private int totalWork;
+	private int completed;
+	private int lastPercent = -1;
+
+	/**
+	 * @param monitor the (shared) monitor to report to
+	 * @param label   prefixes the sub tasks, e.g., the name of the repository
+	 */
+	public GitProgressMonitor(IProgressMonitor monitor, String label) {
+		this.monitor = monitor;
+		this.label = label;
+	}
+
+	@Override
+	public void start(int totalTasks) {
+		// NOP
+	}
+
+	@Override
+	public void beginTask(String title, int totalWork) {
+		this.task = title;
+		this.totalWork = totalWork;
+		this.completed = 0;
+		this.lastPercent = -1;
+		this.report(this.label + ": " + title);
+	}
+
+	@Override
+	public void update(int completed) {
+		this.completed += completed;
+		if (this.totalWork == UNKNOWN) {
+			return;
+		}
+		int percent = (int) (100L * this.completed / this.totalWork);
+		// the monitor is shared, don't flood it
+		if (percent != this.lastPercent) {
+			this.lastPercent = percent;
+			this.report(this.label + ": " + this.task + " (" + percent + "%)");
+		}
+	}
+
+	@Override
+	public void endTask() {
+		// NOP
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return this.monitor.isCanceled();
+	}
+
+	// only part of the interface in newer JGit versions
+	public void showDuration(boolean enabled) {
+		// NOP
+	}
+
+	private void report(String subTask) {
+		synchronized (this.monitor) {
+			this.monitor.subTask(subTask);
+		}
+	}
+}
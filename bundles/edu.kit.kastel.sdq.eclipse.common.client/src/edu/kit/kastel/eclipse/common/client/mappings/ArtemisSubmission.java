@@ -34,6 +34,17 @@ public class ArtemisSubmission implements ISubmission, Serializable {
 		// NOP
 	}
 
+	/**
+	 * For submissions that are not deserialized directly (e.g., from lock results).
+	 */
+	public ArtemisSubmission(int submissionId, String commitHash, ParticipationDTO participation, int correctionRound) {
+		this.submissionId = submissionId;
+		this.commitHash = commitHash;
+		this.participation = participation;
+		this.results = new ResultsDTO[0];
+		this.correctionRound = correctionRound;
+	}
+
 	@Override
 	public String getParticipantIdentifier() {
 		return this.participation.getParticipantIdentifier();
@@ -60,6 +71,15 @@ public class ArtemisSubmission implements ISubmission, Serializable {
 		return this.submissionId;
 	}
 
+	@Override
+	public String getCommitHash() {
+		return this.commitHash;
+	}
+
+	public int getParticipationId() {
+		return this.participation.getParticipationId();
+	}
+
 	public void init(int correctionRound) {
 		this.correctionRound = correctionRound;
 	}
@@ -4,6 +4,7 @@ package edu.kit.kastel.eclipse.common.client.mappings.lock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,23 +12,29 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import edu.kit.kastel.eclipse.common.api.artemis.ILockResult;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.Feedback;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ParticipationDTO;
+import edu.kit.kastel.eclipse.common.client.mappings.ArtemisSubmission;
 
 public class LockResult implements ILockResult {
 	private static final long serialVersionUID = -3787474578751131899L;
 
 	private int submissionId;
 	private int participationId;
+	private String commitHash;
+	private ParticipationDTO participation;
 
 	private List<Feedback> latestFeedback;
 
 	@JsonCreator
 	public LockResult( //
 			@JsonProperty("id") int submissionId, //
+			@JsonProperty("commitHash") String commitHash, //
 			@JsonProperty("results") List<LockCallAssessmentResult> previousAssessmentResults, //
 			@JsonProperty("participation") ParticipationDTO participation) {
 
 		this.submissionId = submissionId;
 		this.participationId = participation.getParticipationId();
+		this.commitHash = commitHash;
+		this.participation = participation;
 
 		this.latestFeedback = new ArrayList<>();
 		LockCallAssessmentResult latestResult = previousAssessmentResults.isEmpty() //
@@ -54,4 +61,15 @@ public class LockResult implements ILockResult {
 		return this.submissionId;
 	}
 
+	/**
+	 * @return the locked submission, if the lock response contains everything
+	 *         needed to download it
+	 */
+	public Optional<ArtemisSubmission> toSubmission(int correctionRound) {
+		if (this.participation.getParticipantIdentifier() == null || this.participation.getRepositoryUrl() == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new ArtemisSubmission(this.submissionId, this.commitHash, this.participation, correctionRound));
+	}
+
 }
@@ -2,21 +2,29 @@
 package edu.kit.kastel.eclipse.common.client.rest;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.messages.Messages;
-import okhttp3.Cookie;
-import okhttp3.CookieJar;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -41,57 +49,84 @@ public abstract class AbstractArtemisClient {
 	protected static final String COOKIE_NAME_JWT = "jwt";
 
 	protected static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+	private static final ObjectMapper ORM = createObjectMapper();
+	// ObjectReaders are immutable and thread-safe, one per target type suffices
+	private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
 	protected final String hostname;
 	// e.g., https://
 	private final String protocol;
-	private ObjectMapper orm;
+	protected final ArtemisTransport transport;
 
 	/**
-	 * @param artemisUsername for login to artemis
-	 * @param artemisPassword for login to artemis
-	 * @param hostname        the hostname of the artemis system. Will be
-	 *                        transformed to domain-name:port
+	 * @param hostname  the hostname of the artemis system. Will be transformed to
+	 *                  domain-name:port
+	 * @param transport the shared transport used for all requests
 	 */
-	protected AbstractArtemisClient(String hostname) {
+	protected AbstractArtemisClient(String hostname, ArtemisTransport transport) {
 		this.protocol = extractProtocol(hostname.trim());
 		this.hostname = cleanupHostnameString(hostname.trim(), this.protocol);
-		this.orm = this.createObjectMapper();
+		this.transport = transport;
 	}
 
-	protected final OkHttpClient createClient(String token) {
-		OkHttpClient.Builder builder = new OkHttpClient.Builder() //
-				.connectTimeout(5, TimeUnit.SECONDS) //
-				.callTimeout(20, TimeUnit.SECONDS)//
-				.readTimeout(20, TimeUnit.SECONDS)//
-				.writeTimeout(20, TimeUnit.SECONDS);
+	protected final <R> R call(OkHttpClient client, Request request, Class<R> resultClass) throws ArtemisClientException {
+		return this.execute(client, request, this.resultReader(resultClass));
+	}
 
-		if (token != null && !token.isBlank()) {
-			builder = builder.cookieJar(new CookieJar() {
-				@Override
-				public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
-					// NOP
-				}
+	protected final <R> R execute(OkHttpClient client, Request request, ResponseReader<R> reader) throws ArtemisClientException {
+		try (Response response = client.newCall(request).execute()) {
+			return reader.read(response);
+		} catch (IOException e) {
+			throw new ArtemisClientException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Enqueues the request on the dispatcher of the client. The future completes
+	 * with the parsed result or exceptionally with an
+	 * {@link ArtemisClientException}. Cancelling the future cancels the call.
+	 */
+	protected final <R> CompletableFuture<R> callAsync(OkHttpClient client, Request request, Class<R> resultClass) {
+		return this.enqueue(client, request, this.resultReader(resultClass));
+	}
 
-				@Override
-				public List<Cookie> loadForRequest(HttpUrl url) {
-					return List.of(new Cookie.Builder().domain(AbstractArtemisClient.this.hostname).path("/").name(COOKIE_NAME_JWT).value(token).httpOnly()
-							.secure().build());
+	protected final <R> CompletableFuture<R> enqueue(OkHttpClient client, Request request, ResponseReader<R> reader) {
+		CompletableFuture<R> future = new CompletableFuture<>();
+		Call call = client.newCall(request);
+		future.whenComplete((result, failure) -> {
+			if (future.isCancelled()) {
+				call.cancel();
+			}
+		});
+		call.enqueue(new Callback() {
+			@Override
+			public void onFailure(Call failedCall, IOException e) {
+				future.completeExceptionally(new ArtemisClientException(e.getMessage(), e));
+			}
+
+			@Override
+			public void onResponse(Call successfulCall, Response response) {
+				try (response) {
+					future.complete(reader.read(response));
+				} catch (IOException e) {
+					future.completeExceptionally(new ArtemisClientException(e.getMessage(), e));
+				} catch (ArtemisClientException | RuntimeException e) {
+					future.completeExceptionally(e);
 				}
-			});
-		}
-		return builder.build();
+			}
+		});
+		return future;
 	}
 
-	protected final <R> R call(OkHttpClient client, Request request, Class<R> resultClass) throws ArtemisClientException {
-		try (Response response = client.newCall(request).execute()) {
+	private <R> ResponseReader<R> resultReader(Class<R> resultClass) {
+		return response -> {
 			this.throwIfStatusUnsuccessful(response);
 			if (resultClass == null) {
 				return null;
 			}
-			return this.read(response.body().string(), resultClass);
-		} catch (IOException e) {
-			throw new ArtemisClientException(e.getMessage(), e);
-		}
+			return this.read(response, resultClass);
+		};
 	}
 
 	protected final HttpUrl path(Object... path) {
@@ -140,21 +175,87 @@ public abstract class AbstractArtemisClient {
 
 	protected <E> String payload(E rspEntity) throws ArtemisClientException {
 		try {
-			return this.orm.writeValueAsString(rspEntity);
+			return ORM.writeValueAsString(rspEntity);
 		} catch (JsonProcessingException e) {
 			throw new ArtemisClientException(e.getMessage(), e);
 		}
 	}
 
-	protected <E> E read(String rspEntity, Class<E> clazz) throws ArtemisClientException {
-		try {
-			return this.orm.readValue(rspEntity, clazz);
-		} catch (JsonProcessingException e) {
-			throw new ArtemisClientException(e.getMessage(), e);
+	/**
+	 * Decodes the body of the response directly from its byte stream.
+	 */
+	protected final <E> E read(Response response, Class<E> clazz) throws IOException {
+		return readerFor(clazz).readValue(response.body().byteStream());
+	}
+
+	/**
+	 * Decodes a JSON array in the body of the response element by element. Only
+	 * one element is materialized at a time.
+	 *
+	 * @return the number of elements passed to the consumer
+	 */
+	protected final <E> int forEachElement(Response response, Class<E> elementClass, Consumer<? super E> consumer) throws IOException {
+		int count = 0;
+		try (MappingIterator<E> elements = readerFor(elementClass).readValues(response.body().byteStream())) {
+			while (elements.hasNextValue()) {
+				consumer.accept(elements.nextValue());
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes a JSON array in the body of the response element by element and
+	 * stops at the first element that matches the filter.
+	 */
+	protected final <E> Optional<E> findElement(Response response, Class<E> elementClass, Predicate<? super E> filter) throws IOException {
+		try (MappingIterator<E> elements = readerFor(elementClass).readValues(response.body().byteStream())) {
+			while (elements.hasNextValue()) {
+				E element = elements.nextValue();
+				if (filter.test(element)) {
+					return Optional.of(element);
+				}
+			}
 		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Counts the elements of a JSON array in the body of the response by walking
+	 * its tokens. No element is bound to an object.
+	 */
+	protected final int countElements(Response response) throws IOException {
+		try (JsonParser parser = ORM.getFactory().createParser(response.body().byteStream())) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IOException("Expected a JSON array");
+			}
+			int count = 0;
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token == null) {
+					throw new IOException("Unexpected end of JSON array");
+				}
+				parser.skipChildren();
+				count++;
+			}
+			return count;
+		}
+	}
+
+	private static ObjectReader readerFor(Class<?> clazz) {
+		return READERS.computeIfAbsent(clazz, ORM::readerFor);
+	}
+
+	/**
+	 * Converts a (possibly unsuccessful) response to the result of a call.
+	 */
+	@FunctionalInterface
+	protected interface ResponseReader<R> {
+		R read(Response response) throws IOException, ArtemisClientException;
 	}
 
-	private ObjectMapper createObjectMapper() {
+	private static ObjectMapper createObjectMapper() {
 		return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false).setSerializationInclusion(Include.NON_NULL);
 	}
 
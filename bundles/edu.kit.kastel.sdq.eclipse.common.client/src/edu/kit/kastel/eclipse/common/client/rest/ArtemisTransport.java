@@ -0,0 +1,159 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * The HTTP transport shared by all Artemis clients of one
+ * {@link RestClientManager}. All clients use the same connection pool,
+ * dispatcher and TLS session cache, so connections are kept alive (and
+ * multiplexed via HTTP/2 if the server supports it) across requests. The JWT
+ * can be replaced at any time without rebuilding the clients.
+ */
+public final class ArtemisTransport {
+	private static final int MAX_IDLE_CONNECTIONS = 8;
+	private static final long KEEP_ALIVE_MINUTES = 5;
+
+	private final OkHttpClient client;
+	private final OkHttpClient anonymousClient;
+	private final MetadataCache metadataCache;
+	private final OkHttpClient cachingClient;
+
+	private volatile String token;
+
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong connectionsOpened = new AtomicLong();
+
+	public ArtemisTransport() {
+		this.client = new OkHttpClient.Builder() //
+				.connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES)) //
+				.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)) //
+				.retryOnConnectionFailure(true) //
+				.connectTimeout(5, TimeUnit.SECONDS) //
+				.callTimeout(20, TimeUnit.SECONDS)//
+				.readTimeout(20, TimeUnit.SECONDS)//
+				.writeTimeout(20, TimeUnit.SECONDS) //
+				.cookieJar(new TokenCookieJar()) //
+				.eventListener(new StatisticsListener()) //
+				.build();
+		// shares pool, dispatcher and TLS sessions with the authenticated client
+		this.anonymousClient = this.client.newBuilder().cookieJar(CookieJar.NO_COOKIES).build();
+
+		this.metadataCache = MetadataCache.getInstance();
+		this.cachingClient = this.metadataCache == null ? this.client : this.metadataCache.install(this.client);
+	}
+
+	/**
+	 * @return the client that sends the current JWT (if any) with every request
+	 */
+	public OkHttpClient getClient() {
+		return this.client;
+	}
+
+	/**
+	 * @return a client that never sends the JWT, but uses the same connections
+	 */
+	public OkHttpClient getAnonymousClient() {
+		return this.anonymousClient;
+	}
+
+	/**
+	 * @return a client that sends the current JWT and revalidates responses with
+	 *         an ETag or Last-Modified validator against the on-disk cache. Only
+	 *         meant for rarely changing metadata.
+	 */
+	public OkHttpClient getCachingClient() {
+		return this.cachingClient;
+	}
+
+	public String getToken() {
+		return this.token;
+	}
+
+	/**
+	 * Replaces the JWT that is sent with every following request.
+	 *
+	 * @param token the new token, may be null to send no token at all
+	 */
+	public void setToken(String token) {
+		this.token = token;
+	}
+
+	/**
+	 * @return the number of calls issued via this transport
+	 */
+	public long getCallCount() {
+		return this.calls.get();
+	}
+
+	/**
+	 * @return the number of new (TCP + TLS) connections that had to be opened
+	 */
+	public long getConnectionsOpened() {
+		return this.connectionsOpened.get();
+	}
+
+	/**
+	 * @return the number of metadata requests answered from the cache (including
+	 *         revalidated ones)
+	 */
+	public long getCacheHitCount() {
+		return this.metadataCache == null ? 0 : this.metadataCache.getHitCount();
+	}
+
+	/**
+	 * @return the number of metadata requests that had to be downloaded in full
+	 */
+	public long getCacheMissCount() {
+		return this.metadataCache == null ? 0 : this.metadataCache.getMissCount();
+	}
+
+	/**
+	 * @return the number of connections currently held by the pool
+	 */
+	public int getPooledConnectionCount() {
+		return this.client.connectionPool().connectionCount();
+	}
+
+	private final class TokenCookieJar implements CookieJar {
+		@Override
+		public void saveFromResponse(HttpUrl url, List<Cookie> cookies) {
+			// NOP
+		}
+
+		@Override
+		public List<Cookie> loadForRequest(HttpUrl url) {
+			String currentToken = ArtemisTransport.this.token;
+			if (currentToken == null || currentToken.isBlank()) {
+				return List.of();
+			}
+			return List.of(new Cookie.Builder().domain(url.host()).path("/").name(AbstractArtemisClient.COOKIE_NAME_JWT).value(currentToken).httpOnly()
+					.secure().build());
+		}
+	}
+
+	private final class StatisticsListener extends EventListener {
+		@Override
+		public void callStart(Call call) {
+			ArtemisTransport.this.calls.incrementAndGet();
+		}
+
+		@Override
+		public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+			ArtemisTransport.this.connectionsOpened.incrementAndGet();
+		}
+	}
+}
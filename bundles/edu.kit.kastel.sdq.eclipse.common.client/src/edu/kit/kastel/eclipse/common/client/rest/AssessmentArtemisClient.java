@@ -2,7 +2,9 @@
 package edu.kit.kastel.eclipse.common.client.rest;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
@@ -12,9 +14,9 @@ import edu.kit.kastel.eclipse.common.api.artemis.AssessmentResult;
 import edu.kit.kastel.eclipse.common.api.artemis.ILockResult;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
+import edu.kit.kastel.eclipse.common.api.client.ClientFutures;
 import edu.kit.kastel.eclipse.common.api.client.IAssessmentArtemisClient;
 import edu.kit.kastel.eclipse.common.api.controller.ExerciseStats;
-import edu.kit.kastel.eclipse.common.client.mappings.ArtemisSubmission;
 import edu.kit.kastel.eclipse.common.client.mappings.lock.LockResult;
 import edu.kit.kastel.eclipse.common.client.mappings.stats.Stats;
 import edu.kit.kastel.eclipse.common.client.mappings.stats.Timing;
@@ -32,85 +34,166 @@ public class AssessmentArtemisClient extends AbstractArtemisClient implements IA
 	private static final String CORRECTION_ROUND_QUERY_PARAM = "correction-round";
 	private static final String LOCK_QUERY_PARAM = "lock";
 	private static final String SUBMIT_QUERY_PARAM = "submit";
+	private static final String CANCEL_ASSESSMENT_PATHPART = "cancel-assessment";
 	protected static final String STATS_PATH = "stats-for-assessment-dashboard";
+	private static final Duration STATS_TTL = Duration.ofSeconds(15);
 
 	private final OkHttpClient client;
-
-	public AssessmentArtemisClient(final String hostname, String token) {
-		super(hostname);
-		this.client = this.createClient(token);
+	private final ExerciseStatsCache statsCache;
+	private final SubmissionIndex submissionIndex;
+
+	public AssessmentArtemisClient(final String hostname, ArtemisTransport transport, SubmissionIndex submissionIndex) {
+		super(hostname, transport);
+		this.client = transport.getClient();
+		this.statsCache = new ExerciseStatsCache(STATS_TTL);
+		this.submissionIndex = submissionIndex;
 	}
 
 	@Override
 	public void saveAssessment(int participationId, boolean submit, AssessmentResult assessment) throws ArtemisClientException {
+		this.call(this.client, this.saveAssessmentRequest(participationId, submit, assessment), null);
+		if (submit) {
+			this.onSubmitted(participationId);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Void> saveAssessmentAsync(int participationId, boolean submit, AssessmentResult assessment) {
+		try {
+			CompletableFuture<Void> result = this.callAsync(this.client, this.saveAssessmentRequest(participationId, submit, assessment), null);
+			return submit ? result.thenRun(() -> this.onSubmitted(participationId)) : result;
+		} catch (ArtemisClientException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private void onSubmitted(int participationId) {
+		this.statsCache.invalidate();
+		this.submissionIndex.invalidateParticipation(participationId);
+	}
+
+	private Request saveAssessmentRequest(int participationId, boolean submit, AssessmentResult assessment) throws ArtemisClientException {
 		String assessmentPayload = this.payload(assessment);
 		log.info(String.format("Saving assessment for submission %s with json: %s", assessment.id, assessmentPayload));
 
-		Request request = new Request.Builder() //
+		return new Request.Builder() //
 				.url(this.path(PARTICIPATION_PATHPART, participationId, MANUAL_RESULT_PATHPART).newBuilder()
 						.addQueryParameter(SUBMIT_QUERY_PARAM, String.valueOf(submit)).build())
 				.put(RequestBody.create(assessmentPayload, JSON)).build();
-
-		this.call(this.client, request, null);
 	}
 
 	@Override
 	public ILockResult startAssessment(ISubmission submission) throws ArtemisClientException {
-		Request request = new Request.Builder() //
+		ILockResult lockResult = this.call(this.client, this.lockRequest(submission), LockResult.class);
+		this.statsCache.invalidate();
+		return lockResult;
+	}
+
+	@Override
+	public CompletableFuture<ILockResult> startAssessmentAsync(ISubmission submission) {
+		return this.callAsync(this.client, this.lockRequest(submission), LockResult.class).thenApply(lockResult -> {
+			this.statsCache.invalidate();
+			return lockResult;
+		});
+	}
+
+	private Request lockRequest(ISubmission submission) {
+		return new Request.Builder() //
 				.url(this.path(PROGRAMMING_SUBMISSION_PATHPART, submission.getSubmissionId(), LOCK_QUERY_PARAM).newBuilder()
 						.addQueryParameter(CORRECTION_ROUND_QUERY_PARAM, String.valueOf(submission.getCorrectionRound())).build())
 				.get().build();
-
-		return this.call(this.client, request, LockResult.class);
 	}
 
 	@Override
 	public Optional<ILockResult> startNextAssessment(IExercise exercise, int correctionRound) throws ArtemisClientException {
+		Optional<ILockResult> lockResult = this.execute(this.client, this.nextAssessmentRequest(exercise, correctionRound), this::readNextAssessment);
+		this.onNextAssessmentLocked(exercise, correctionRound, lockResult);
+		return lockResult;
+	}
+
+	@Override
+	public CompletableFuture<Optional<ILockResult>> startNextAssessmentAsync(IExercise exercise, int correctionRound) {
+		return this.enqueue(this.client, this.nextAssessmentRequest(exercise, correctionRound), this::readNextAssessment).thenApply(lockResult -> {
+			this.onNextAssessmentLocked(exercise, correctionRound, lockResult);
+			return lockResult;
+		});
+	}
+
+	private void onNextAssessmentLocked(IExercise exercise, int correctionRound, Optional<ILockResult> lockResult) {
+		this.statsCache.invalidate();
+		// the lock response describes the submission, no need to look it up later
+		lockResult.flatMap(lock -> ((LockResult) lock).toSubmission(correctionRound))
+				.ifPresent(submission -> this.submissionIndex.put(exercise.getExerciseId(), submission));
+	}
+
+	@Override
+	public void cancelAssessment(ISubmission submission) throws ArtemisClientException {
 		Request request = new Request.Builder() //
+				.url(this.path(PROGRAMMING_SUBMISSION_PATHPART, submission.getSubmissionId(), CANCEL_ASSESSMENT_PATHPART)) //
+				.put(RequestBody.create("", JSON)).build();
+		this.call(this.client, request, null);
+		this.statsCache.invalidate();
+	}
+
+	private Request nextAssessmentRequest(IExercise exercise, int correctionRound) {
+		return new Request.Builder() //
 				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), SUBMISSION_WIHOUT_ASSESSMENT_PATH).newBuilder()
 						.addQueryParameter(CORRECTION_ROUND_QUERY_PARAM, String.valueOf(correctionRound))
 						.addQueryParameter(LOCK_QUERY_PARAM, String.valueOf(true)).build())
 				.get().build();
+	}
 
-		try (Response response = this.client.newCall(request).execute()) {
-			if (!response.isSuccessful()) {
-				return Optional.empty();
-			}
-			return Optional.of(this.read(response.body().string(), LockResult.class));
-		} catch (IOException e) {
-			throw new ArtemisClientException(e.getMessage(), e);
+	private Optional<ILockResult> readNextAssessment(Response response) throws IOException, ArtemisClientException {
+		if (!response.isSuccessful()) {
+			return Optional.empty();
 		}
-
+		return Optional.of(this.read(response, LockResult.class));
 	}
 
 	@Override
 	public ExerciseStats getStats(IExercise exercise) throws ArtemisClientException {
-		Request request = new Request.Builder() //
-				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), STATS_PATH)).get().build();
+		return ClientFutures.await(this.getStatsAsync(exercise));
+	}
 
-		Stats stats = null;
-		try (Response response = this.client.newCall(request).execute()) {
-			if (!response.isSuccessful()) {
-				return null;
-			}
-			stats = this.read(response.body().string(), Stats.class);
-		} catch (IOException e) {
-			throw new ArtemisClientException(e.getMessage(), e);
-		}
+	@Override
+	public CompletableFuture<ExerciseStats> getStatsAsync(IExercise exercise) {
+		return this.statsCache.get(exercise.getExerciseId(), exerciseId -> this.loadStats(exercise));
+	}
 
-		int submissionsInRound1 = this.countSubmissions(exercise, 0);
-		int submissionsInRound2 = 0;
+	/**
+	 * Requests the dashboard stats and the submission counts of all correction
+	 * rounds concurrently.
+	 */
+	private CompletableFuture<ExerciseStats> loadStats(IExercise exercise) {
+		CompletableFuture<Stats> stats = this.enqueue(this.client, this.statsRequest(exercise), this::readStats);
+		CompletableFuture<Integer> submissions = this.enqueue(this.client, this.countSubmissionsRequest(exercise, 0), this::readSubmissionCount);
 		if (exercise.hasSecondCorrectionRound()) {
-			submissionsInRound2 = this.countSubmissions(exercise, 1);
+			submissions = submissions.thenCombine(this.enqueue(this.client, this.countSubmissionsRequest(exercise, 1), this::readSubmissionCount),
+					Integer::sum);
+		}
+
+		return stats.thenCombine(submissions, (s, submittedByTutor) -> s == null ? null : this.toExerciseStats(s, submittedByTutor));
+	}
+
+	private Request statsRequest(IExercise exercise) {
+		return new Request.Builder() //
+				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), STATS_PATH)).get().build();
+	}
+
+	private Stats readStats(Response response) throws IOException, ArtemisClientException {
+		if (!response.isSuccessful()) {
+			return null;
 		}
+		return this.read(response, Stats.class);
+	}
 
+	private ExerciseStats toExerciseStats(Stats stats, int submittedByTutor) {
 		return new ExerciseStats( //
 				this.countInRounds(stats.numberOfAssessmentsOfCorrectionRounds()), //
 				stats.numberOfSubmissions().inTime(), //
 				stats.totalNumberOfAssessmentLocks(), //
-				submissionsInRound1 + submissionsInRound2 //
+				submittedByTutor //
 		);
-
 	}
 
 	private int countInRounds(Timing[] rounds) {
@@ -121,22 +204,20 @@ public class AssessmentArtemisClient extends AbstractArtemisClient implements IA
 		return countInTime;
 	}
 
-	private int countSubmissions(IExercise exercise, int correctionRound) throws ArtemisClientException {
-		Request request = new Request.Builder() //
+	private Request countSubmissionsRequest(IExercise exercise, int correctionRound) {
+		return new Request.Builder() //
 				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), PROGRAMMING_SUBMISSION_PATHPART).newBuilder()
 						.addQueryParameter("assessedByTutor", String.valueOf(true)).addQueryParameter("correction-round", String.valueOf(correctionRound))
 						.build())
 				.get().build();
+	}
 
-		try (Response response = this.client.newCall(request).execute()) {
-			if (!response.isSuccessful()) {
-				return 0;
-			}
-			ArtemisSubmission[] submissionsArray = this.read(response.body().string(), ArtemisSubmission[].class);
-			return submissionsArray.length;
-		} catch (IOException e) {
-			throw new ArtemisClientException(e.getMessage(), e);
+	private int readSubmissionCount(Response response) throws IOException, ArtemisClientException {
+		if (!response.isSuccessful()) {
+			return 0;
 		}
+		// only the number of submissions is of interest, don't bind any of them
+		return this.countElements(response);
 	}
 
 }
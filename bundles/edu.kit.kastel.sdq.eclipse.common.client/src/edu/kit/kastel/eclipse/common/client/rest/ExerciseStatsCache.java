@@ -0,0 +1,81 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import edu.kit.kastel.eclipse.common.api.controller.ExerciseStats;
+
+/**
+ * Short-lived cache for {@link ExerciseStats}. Fresh values are returned
+ * directly. Stale values are returned as well, but trigger a refresh in the
+ * background (stale-while-revalidate). Only the first request for an exercise
+ * has to wait for Artemis.
+ */
+final class ExerciseStatsCache {
+	private static final ILog log = Platform.getLog(ExerciseStatsCache.class);
+
+	private final long ttlNanos;
+	private final Map<Integer, Entry> entries = new HashMap<>();
+
+	ExerciseStatsCache(Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+	}
+
+	/**
+	 * @param exerciseId the exercise
+	 * @param loader     starts loading the stats of the given exercise
+	 * @return the cached stats or a future that completes once they are loaded
+	 */
+	synchronized CompletableFuture<ExerciseStats> get(int exerciseId, IntFunction<CompletableFuture<ExerciseStats>> loader) {
+		Entry entry = this.entries.computeIfAbsent(exerciseId, id -> new Entry());
+		if (entry.loaded && System.nanoTime() - entry.loadedAt < this.ttlNanos) {
+			return CompletableFuture.completedFuture(entry.stats);
+		}
+
+		if (entry.refresh == null) {
+			this.refresh(exerciseId, entry, loader);
+		}
+		return entry.loaded ? CompletableFuture.completedFuture(entry.stats) : entry.refresh;
+	}
+
+	/**
+	 * Drops all cached stats, e.g., after an assessment has been locked or
+	 * submitted.
+	 */
+	synchronized void invalidate() {
+		this.entries.clear();
+	}
+
+	private void refresh(int exerciseId, Entry entry, IntFunction<CompletableFuture<ExerciseStats>> loader) {
+		CompletableFuture<ExerciseStats> refresh = loader.apply(exerciseId);
+		entry.refresh = refresh;
+		refresh.whenComplete((stats, failure) -> {
+			synchronized (this) {
+				if (entry.refresh == refresh) {
+					entry.refresh = null;
+				}
+				if (failure == null) {
+					entry.stats = stats;
+					entry.loadedAt = System.nanoTime();
+					entry.loaded = true;
+				} else if (entry.loaded) {
+					log.warn("Refreshing statistics of exercise " + exerciseId + " failed, keeping the previous ones: " + failure.getMessage());
+				}
+			}
+		});
+	}
+
+	private static final class Entry {
+		private ExerciseStats stats;
+		private long loadedAt;
+		private boolean loaded;
+		private CompletableFuture<ExerciseStats> refresh;
+	}
+}
@@ -1,6 +1,8 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.client.rest;
 
+import java.util.concurrent.CompletableFuture;
+
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.Feedback;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ParticipationDTO;
@@ -12,17 +14,24 @@ import okhttp3.Request;
 public class FeedbackArtemisClient extends AbstractArtemisClient implements IFeedbackArtemisClient {
 	private final OkHttpClient client;
 
-	public FeedbackArtemisClient(final String hostname, String token) {
-		super(hostname);
-		this.client = this.createClient(token);
+	public FeedbackArtemisClient(final String hostname, ArtemisTransport transport) {
+		super(hostname, transport);
+		this.client = transport.getClient();
 	}
 
 	@Override
 	public Feedback[] getFeedbackForResult(ParticipationDTO participation, ResultsDTO result) throws ArtemisClientException {
-		Request request = new Request.Builder() //
-				.url(this.path(PARTICIPATION_PATHPART, participation.getParticipationId(), RESULT_PATHPART, result.id, "details")).get().build();
+		return this.call(this.client, this.feedbackRequest(participation, result), Feedback[].class);
+	}
 
-		return this.call(this.client, request, Feedback[].class);
+	@Override
+	public CompletableFuture<Feedback[]> getFeedbackForResultAsync(ParticipationDTO participation, ResultsDTO result) {
+		return this.callAsync(this.client, this.feedbackRequest(participation, result), Feedback[].class);
+	}
+
+	private Request feedbackRequest(ParticipationDTO participation, ResultsDTO result) {
+		return new Request.Builder() //
+				.url(this.path(PARTICIPATION_PATHPART, participation.getParticipationId(), RESULT_PATHPART, result.id, "details")).get().build();
 	}
 
 }
@@ -23,12 +23,12 @@ public class LoginManager extends AbstractArtemisClient implements IAuthenticati
 	private final OkHttpClient client;
 	private User assessor;
 
-	public LoginManager(String hostname, String username, String password) {
-		super(hostname);
+	public LoginManager(String hostname, ArtemisTransport transport, String username, String password) {
+		super(hostname, transport);
 		this.username = username;
 		this.password = password;
-		// Create without token ..
-		this.client = this.createClient(null);
+		// Authenticate without (a possibly outdated) token ..
+		this.client = transport.getAnonymousClient();
 	}
 
 	@Override
@@ -46,6 +46,7 @@ public class LoginManager extends AbstractArtemisClient implements IAuthenticati
 		} else {
 			this.token = this.loginViaUsernameAndPassword();
 		}
+		this.transport.setToken(this.token);
 
 		this.assessor = this.fetchAssessor();
 	}
@@ -74,9 +75,8 @@ public class LoginManager extends AbstractArtemisClient implements IAuthenticati
 		if (this.token == null) {
 			return null;
 		}
-		OkHttpClient clientWithToken = this.createClient(this.token);
 		Request request = new Request.Builder().url(this.path("account")).get().build();
-		return this.call(clientWithToken, request, User.class);
+		return this.call(this.transport.getClient(), request, User.class);
 	}
 
 	private String loginViaUsernameAndPassword() throws ArtemisClientException {
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
@@ -30,16 +31,28 @@ public class MappingLoaderArtemisClient extends AbstractArtemisClient implements
 
 	private final OkHttpClient client;
 
-	public MappingLoaderArtemisClient(ISubmissionsArtemisClient submissionClient, String hostname, String token) {
-		super(hostname);
-		this.client = this.createClient(token);
+	public MappingLoaderArtemisClient(ISubmissionsArtemisClient submissionClient, String hostname, ArtemisTransport transport) {
+		super(hostname, transport);
+		// courses, exams and exercises rarely change, revalidate instead of reloading
+		this.client = transport.getCachingClient();
 		this.submissionClient = submissionClient;
 	}
 
 	@Override
 	public List<ICourse> getCoursesForAssessment() throws ArtemisClientException {
-		Request request = new Request.Builder().url(this.path(COURSES_PATHPART)).get().build();
-		ArtemisCourse[] coursesArray = this.call(this.client, request, ArtemisCourse[].class);
+		return this.initCourses(this.call(this.client, this.coursesRequest(), ArtemisCourse[].class));
+	}
+
+	@Override
+	public CompletableFuture<List<ICourse>> getCoursesForAssessmentAsync() {
+		return this.callAsync(this.client, this.coursesRequest(), ArtemisCourse[].class).thenApply(this::initCourses);
+	}
+
+	private Request coursesRequest() {
+		return new Request.Builder().url(this.path(COURSES_PATHPART)).get().build();
+	}
+
+	private List<ICourse> initCourses(ArtemisCourse[] coursesArray) {
 		for (ArtemisCourse course : coursesArray) {
 			course.init(this);
 		}
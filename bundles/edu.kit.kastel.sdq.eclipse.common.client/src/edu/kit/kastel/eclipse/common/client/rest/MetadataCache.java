@@ -0,0 +1,113 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import okhttp3.Cache;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * Conditional-GET cache for rarely changing metadata (courses, exams, exercise
+ * groups and exercises). Responses carrying an {@code ETag} or
+ * {@code Last-Modified} validator are stored on disk (under the state location
+ * of this bundle) and revalidated on every request, so an unchanged resource
+ * only costs a 304 response.
+ */
+final class MetadataCache {
+	private static final ILog log = Platform.getLog(MetadataCache.class);
+
+	private static final String BUNDLE_ID = "edu.kit.kastel.sdq.eclipse.common.client";
+	private static final String CACHE_DIRECTORY = "http-cache";
+	private static final long MAX_SIZE_BYTES = 20L * 1024 * 1024;
+
+	private final Cache cache;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private MetadataCache(File directory) {
+		this.cache = new Cache(directory, MAX_SIZE_BYTES);
+	}
+
+	// a disk cache directory must only be used by one cache instance
+	private static MetadataCache instance;
+	private static boolean initialized;
+
+	/**
+	 * @return the process-wide cache or null if there is no state location (e.g.,
+	 *         the platform is not running)
+	 */
+	static synchronized MetadataCache getInstance() {
+		if (!initialized) {
+			instance = createInStateLocation();
+			initialized = true;
+		}
+		return instance;
+	}
+
+	private static MetadataCache createInStateLocation() {
+		try {
+			File directory = Platform.getStateLocation(Platform.getBundle(BUNDLE_ID)).append(CACHE_DIRECTORY).toFile();
+			return new MetadataCache(directory);
+		} catch (RuntimeException e) {
+			log.warn("No state location for the HTTP cache available, metadata will not be cached: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * @return a client sharing connections with the given one that uses this cache
+	 */
+	OkHttpClient install(OkHttpClient client) {
+		return client.newBuilder() //
+				.cache(this.cache) //
+				.addInterceptor(this::countHitsAndMisses) //
+				.addNetworkInterceptor(MetadataCache::revalidateIfPossible) //
+				.build();
+	}
+
+	long getHitCount() {
+		return this.hits.get();
+	}
+
+	long getMissCount() {
+		return this.misses.get();
+	}
+
+	private Response countHitsAndMisses(Interceptor.Chain chain) throws IOException {
+		Response response = chain.proceed(chain.request());
+		// a revalidated (304) response is served from the cache as well, a changed
+		// resource (200 to a conditional request) also has a cache response, though
+		Response networkResponse = response.networkResponse();
+		if (response.cacheResponse() != null && (networkResponse == null || networkResponse.code() == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+			this.hits.incrementAndGet();
+		} else {
+			this.misses.incrementAndGet();
+		}
+		return response;
+	}
+
+	/**
+	 * Artemis marks its API responses as not storable. If the server sends a
+	 * validator we store the response anyway, but force a revalidation on each
+	 * use. Hence, we never serve stale data.
+	 */
+	private static Response revalidateIfPossible(Interceptor.Chain chain) throws IOException {
+		Response response = chain.proceed(chain.request());
+		if (!response.isSuccessful() || (response.header("ETag") == null && response.header("Last-Modified") == null)) {
+			return response;
+		}
+		return response.newBuilder() //
+				.removeHeader("Pragma") //
+				.removeHeader("Expires") //
+				.header("Cache-Control", "no-cache") //
+				.build();
+	}
+}
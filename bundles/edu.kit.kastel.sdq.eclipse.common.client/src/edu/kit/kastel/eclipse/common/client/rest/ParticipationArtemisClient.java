@@ -1,6 +1,8 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.client.rest;
 
+import java.util.concurrent.CompletableFuture;
+
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ICourse;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
@@ -13,23 +15,39 @@ public class ParticipationArtemisClient extends AbstractArtemisClient implements
 
 	private final OkHttpClient client;
 
-	public ParticipationArtemisClient(final String hostname, String token) {
-		super(hostname);
-		this.client = this.createClient(token);
+	public ParticipationArtemisClient(final String hostname, ArtemisTransport transport) {
+		super(hostname, transport);
+		this.client = transport.getClient();
 	}
 
 	@Override
 	public ParticipationDTO getParticipation(ICourse couse, IExercise exercise) throws ArtemisClientException {
-		Request request = new Request.Builder() //
-				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), "participation")).get().build();
-		return this.call(this.client, request, ParticipationDTO.class);
+		return this.call(this.client, this.participationRequest(exercise), ParticipationDTO.class);
+	}
+
+	@Override
+	public CompletableFuture<ParticipationDTO> getParticipationAsync(ICourse course, IExercise exercise) {
+		return this.callAsync(this.client, this.participationRequest(exercise), ParticipationDTO.class);
 	}
 
 	@Override
 	public ParticipationDTO getParticipationWithLatestResult(int participationId) throws ArtemisClientException {
-		Request request = new Request.Builder() //
+		return this.call(this.client, this.participationWithLatestResultRequest(participationId), ParticipationDTO.class);
+	}
+
+	@Override
+	public CompletableFuture<ParticipationDTO> getParticipationWithLatestResultAsync(int participationId) {
+		return this.callAsync(this.client, this.participationWithLatestResultRequest(participationId), ParticipationDTO.class);
+	}
+
+	private Request participationRequest(IExercise exercise) {
+		return new Request.Builder() //
+				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), "participation")).get().build();
+	}
+
+	private Request participationWithLatestResultRequest(int participationId) {
+		return new Request.Builder() //
 				.url(this.path(PARTICIPATION_PATHPART, participationId, "withLatestResult")).get().build();
-		return this.call(this.client, request, ParticipationDTO.class);
 	}
 
 }
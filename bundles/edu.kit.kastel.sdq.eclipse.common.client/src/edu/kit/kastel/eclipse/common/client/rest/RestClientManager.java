@@ -12,6 +12,8 @@ import edu.kit.kastel.eclipse.common.api.client.IUtilArtemisClient;
 
 public class RestClientManager {
 	private final String hostname;
+	private final ArtemisTransport transport;
+	private final SubmissionIndex submissionIndex;
 
 	private IAuthenticationArtemisClient loginManager;
 	private ISubmissionsArtemisClient submissionClient;
@@ -23,7 +25,9 @@ public class RestClientManager {
 
 	public RestClientManager(String hostname, String optionalUsername, String optionalPassword) {
 		this.hostname = hostname.trim();
-		this.loginManager = new LoginManager(this.hostname, optionalUsername, optionalPassword);
+		this.transport = new ArtemisTransport();
+		this.submissionIndex = new SubmissionIndex();
+		this.loginManager = new LoginManager(this.hostname, this.transport, optionalUsername, optionalPassword);
 	}
 
 	public boolean isReady() {
@@ -38,48 +42,55 @@ public class RestClientManager {
 		this.loginManager.login();
 	}
 
+	/**
+	 * @return the transport shared by all clients of this manager
+	 */
+	public ArtemisTransport getTransport() {
+		return this.transport;
+	}
+
 	public IAuthenticationArtemisClient getAuthenticationClient() {
 		return this.loginManager;
 	}
 
 	public ISubmissionsArtemisClient getSubmissionArtemisClient() {
 		if (this.submissionClient == null) {
-			this.submissionClient = new SubmissionsArtemisClient(this.hostname, this.loginManager.getBearerToken(), this.loginManager.getUser());
+			this.submissionClient = new SubmissionsArtemisClient(this.hostname, this.transport, this.submissionIndex, this.loginManager.getUser());
 		}
 		return this.submissionClient;
 	}
 
 	public ICourseArtemisClient getCourseArtemisClient() {
 		if (this.courseClient == null) {
-			this.courseClient = new MappingLoaderArtemisClient(this.getSubmissionArtemisClient(), this.hostname, this.loginManager.getBearerToken());
+			this.courseClient = new MappingLoaderArtemisClient(this.getSubmissionArtemisClient(), this.hostname, this.transport);
 		}
 		return this.courseClient;
 	}
 
 	public IFeedbackArtemisClient getFeedbackArtemisClient() {
 		if (this.feedbackClient == null) {
-			this.feedbackClient = new FeedbackArtemisClient(this.hostname, this.loginManager.getBearerToken());
+			this.feedbackClient = new FeedbackArtemisClient(this.hostname, this.transport);
 		}
 		return this.feedbackClient;
 	}
 
 	public IParticipationArtemisClient getParticipationArtemisClient() {
 		if (this.participationClient == null) {
-			this.participationClient = new ParticipationArtemisClient(this.hostname, this.loginManager.getBearerToken());
+			this.participationClient = new ParticipationArtemisClient(this.hostname, this.transport);
 		}
 		return this.participationClient;
 	}
 
 	public IUtilArtemisClient getUtilArtemisClient() {
 		if (this.utilClient == null) {
-			this.utilClient = new UtilArtemisClient(this.hostname);
+			this.utilClient = new UtilArtemisClient(this.hostname, this.transport);
 		}
 		return this.utilClient;
 	}
 
 	public IAssessmentArtemisClient getAssessmentArtemisClient() {
 		if (this.assessmentClient == null) {
-			this.assessmentClient = new AssessmentArtemisClient(this.hostname, this.loginManager.getBearerToken());
+			this.assessmentClient = new AssessmentArtemisClient(this.hostname, this.transport, this.submissionIndex);
 		}
 		return this.assessmentClient;
 	}
@@ -0,0 +1,62 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.client.rest;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.kit.kastel.eclipse.common.client.mappings.ArtemisSubmission;
+
+/**
+ * Index of the known submissions per exercise and correction round. It is
+ * filled from submission lists and lock responses, so looking up a submission
+ * by its id usually needs no request to Artemis.
+ */
+public final class SubmissionIndex {
+	private static final int CORRECTION_ROUNDS = 2;
+
+	private final Map<RoundKey, Map<Integer, ArtemisSubmission>> rounds = new ConcurrentHashMap<>();
+
+	/**
+	 * Replaces the known submissions of a correction round with the given (full)
+	 * list.
+	 */
+	void replaceRound(int exerciseId, int correctionRound, Collection<ArtemisSubmission> submissions) {
+		Map<Integer, ArtemisSubmission> round = new ConcurrentHashMap<>();
+		for (ArtemisSubmission submission : submissions) {
+			round.put(submission.getSubmissionId(), submission);
+		}
+		this.rounds.put(new RoundKey(exerciseId, correctionRound), round);
+	}
+
+	/**
+	 * Adds or replaces a single submission, e.g., one that has just been locked.
+	 */
+	void put(int exerciseId, ArtemisSubmission submission) {
+		this.rounds.computeIfAbsent(new RoundKey(exerciseId, submission.getCorrectionRound()), key -> new ConcurrentHashMap<>())
+				.put(submission.getSubmissionId(), submission);
+	}
+
+	Optional<ArtemisSubmission> find(int exerciseId, int submissionId) {
+		for (int correctionRound = 0; correctionRound < CORRECTION_ROUNDS; correctionRound++) {
+			Map<Integer, ArtemisSubmission> round = this.rounds.get(new RoundKey(exerciseId, correctionRound));
+			ArtemisSubmission submission = round == null ? null : round.get(submissionId);
+			if (submission != null) {
+				return Optional.of(submission);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Drops the submissions of the given participation, e.g., after their
+	 * assessment has been submitted.
+	 */
+	void invalidateParticipation(int participationId) {
+		this.rounds.values().forEach(round -> round.values().removeIf(submission -> submission.getParticipationId() == participationId));
+	}
+
+	private record RoundKey(int exerciseId, int correctionRound) {
+	}
+}
@@ -3,11 +3,14 @@ package edu.kit.kastel.eclipse.common.client.rest;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.User;
+import edu.kit.kastel.eclipse.common.api.client.ClientFutures;
 import edu.kit.kastel.eclipse.common.api.client.ISubmissionsArtemisClient;
 import edu.kit.kastel.eclipse.common.api.messages.Messages;
 import edu.kit.kastel.eclipse.common.client.mappings.ArtemisSubmission;
@@ -17,38 +20,78 @@ import okhttp3.Request;
 public class SubmissionsArtemisClient extends AbstractArtemisClient implements ISubmissionsArtemisClient {
 	private final OkHttpClient client;
 	private User assessor;
+	private final SubmissionIndex submissionIndex;
 
-	public SubmissionsArtemisClient(final String hostname, String token, User assessor) {
-		super(hostname);
-		this.client = this.createClient(token);
+	public SubmissionsArtemisClient(final String hostname, ArtemisTransport transport, SubmissionIndex submissionIndex, User assessor) {
+		super(hostname, transport);
+		this.client = transport.getClient();
+		this.submissionIndex = submissionIndex;
 		this.assessor = assessor;
 	}
 
 	@Override
 	public List<ISubmission> getSubmissions(IExercise exercise, int correctionRound) throws ArtemisClientException {
+		ArtemisSubmission[] submissionsArray = this.call(this.client, this.submissionsRequest(exercise, correctionRound), ArtemisSubmission[].class);
+		return this.indexSubmissions(exercise, correctionRound, submissionsArray);
+	}
+
+	@Override
+	public CompletableFuture<List<ISubmission>> getSubmissionsAsync(IExercise exercise, int correctionRound) {
+		return this.callAsync(this.client, this.submissionsRequest(exercise, correctionRound), ArtemisSubmission[].class)
+				.thenApply(submissionsArray -> this.indexSubmissions(exercise, correctionRound, submissionsArray));
+	}
+
+	@Override
+	public ISubmission getSubmissionById(IExercise artemisExercise, int submissionId) throws ArtemisClientException {
+		return ClientFutures.await(this.getSubmissionByIdAsync(artemisExercise, submissionId));
+	}
+
+	@Override
+	public CompletableFuture<ISubmission> getSubmissionByIdAsync(IExercise artemisExercise, int submissionId) {
+		Optional<ArtemisSubmission> indexed = this.submissionIndex.find(artemisExercise.getExerciseId(), submissionId);
+		if (indexed.isPresent()) {
+			return CompletableFuture.completedFuture(indexed.get());
+		}
+
+		CompletableFuture<Optional<ISubmission>> found = this.findSubmissionAsync(artemisExercise, 0, submissionId);
+		if (artemisExercise.hasSecondCorrectionRound()) {
+			found = found.thenCombine(this.findSubmissionAsync(artemisExercise, 1, submissionId), (first, second) -> first.isPresent() ? first : second);
+		}
+
+		return found.thenCompose(submission -> submission.map(CompletableFuture::completedFuture) //
+				.orElseGet(() -> CompletableFuture.failedFuture(
+						new ArtemisClientException(String.format(Messages.CLIENT_NO_SUBMISSION_FOUND_FORMAT, submissionId)))));
+	}
+
+	private CompletableFuture<Optional<ISubmission>> findSubmissionAsync(IExercise exercise, int correctionRound, int submissionId) {
+		return this.enqueue(this.client, this.submissionsRequest(exercise, correctionRound), response -> {
+			this.throwIfStatusUnsuccessful(response);
+			// stream the list and only bind the submission we are looking for
+			Optional<ArtemisSubmission> submission = this.findElement(response, ArtemisSubmission.class, s -> s.getSubmissionId() == submissionId);
+			submission.ifPresent(s -> {
+				s.init(correctionRound);
+				this.submissionIndex.put(exercise.getExerciseId(), s);
+			});
+			return submission.map(ISubmission.class::cast);
+		});
+	}
+
+	private Request submissionsRequest(IExercise exercise, int correctionRound) {
 		boolean isInstructor = exercise.getCourse().isInstructor(this.assessor);
-		Request request = new Request.Builder() //
+		return new Request.Builder() //
 				.url(this.path(EXERCISES_PATHPART, exercise.getExerciseId(), PROGRAMMING_SUBMISSION_PATHPART).newBuilder()
 						.addQueryParameter("assessedByTutor", String.valueOf(!isInstructor))
 						.addQueryParameter("correction-round", String.valueOf(correctionRound)).build())
 				.get().build();
+	}
 
-		ArtemisSubmission[] submissionsArray = this.call(this.client, request, ArtemisSubmission[].class);
+	private List<ISubmission> indexSubmissions(IExercise exercise, int correctionRound, ArtemisSubmission[] submissionsArray) {
 		for (ArtemisSubmission submission : submissionsArray) {
 			submission.init(correctionRound);
 		}
+		this.submissionIndex.replaceRound(exercise.getExerciseId(), correctionRound, Arrays.asList(submissionsArray));
 
 		return Arrays.asList(submissionsArray);
 	}
 
-	@Override
-	public ISubmission getSubmissionById(IExercise artemisExercise, int submissionId) throws ArtemisClientException {
-		List<ISubmission> submissions = this.getSubmissions(artemisExercise);
-		ISubmission target = submissions.stream().filter(s -> s.getSubmissionId() == submissionId).findFirst().orElse(null);
-		if (target == null) {
-			throw new ArtemisClientException(String.format(Messages.CLIENT_NO_SUBMISSION_FOUND_FORMAT, submissionId));
-		}
-		return target;
-	}
-
 }
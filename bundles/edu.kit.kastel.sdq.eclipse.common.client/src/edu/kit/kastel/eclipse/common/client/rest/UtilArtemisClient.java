@@ -14,9 +14,9 @@ import okhttp3.Request;
 public class UtilArtemisClient extends AbstractArtemisClient implements IUtilArtemisClient {
 	private final OkHttpClient client;
 
-	public UtilArtemisClient(final String hostname) {
-		super(hostname);
-		this.client = this.createClient(null);
+	public UtilArtemisClient(final String hostname, ArtemisTransport transport) {
+		super(hostname, transport);
+		this.client = transport.getAnonymousClient();
 	}
 
 	@Override
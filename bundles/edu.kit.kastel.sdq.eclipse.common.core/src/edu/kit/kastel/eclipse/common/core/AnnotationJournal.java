@@ -0,0 +1,170 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
+import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
+import edu.kit.kastel.eclipse.common.core.artemis.StateLocation;
+
+/**
+ * An append-only log of the changes to the annotations of a submission that
+ * have not been saved to Artemis, yet. It is stored in the state location of
+ * this bundle and replayed on top of the annotations from Artemis when the
+ * submission is opened again (e.g., after a crash).
+ * <p>
+ * One change per line: {@code ["a", id, mistake type id, file, start line,
+ * end line, custom message, custom penalty]}, {@code ["m", id, custom message,
+ * custom penalty]} or {@code ["r", id]}. Replaying is idempotent, so changes
+ * that have already been saved may be replayed again.
+ */
+final class AnnotationJournal {
+	private static final ILog log = Platform.getLog(AnnotationJournal.class);
+
+	private static final String JOURNAL_DIRECTORY = "journal";
+
+	private static final String ADD = "a";
+	private static final String MODIFY = "m";
+	private static final String REMOVE = "r";
+
+	private static final ObjectMapper oom = new ObjectMapper();
+
+	/**
+	 * Receives the changes of a journal.
+	 */
+	interface Target {
+		void add(String annotationId, String mistakeTypeId, int startLine, int endLine, String classFilePath, String customMessage, Double customPenalty);
+
+		void modify(String annotationId, String customMessage, Double customPenalty);
+
+		void remove(String annotationId);
+	}
+
+	private final Path file;
+
+	AnnotationJournal(ISubmission submission) {
+		this.file = journalFile(submission);
+	}
+
+	void added(IAnnotation annotation) {
+		ArrayNode entry = oom.createArrayNode();
+		entry.add(ADD);
+		entry.add(annotation.getUUID());
+		entry.add(annotation.getMistakeType().getIdentifier());
+		entry.add(annotation.getClassFilePath());
+		entry.add(annotation.getStartLine());
+		entry.add(annotation.getEndLine());
+		entry.add(annotation.getCustomMessage().orElse(null));
+		entry.add(annotation.getCustomPenalty().orElse(null));
+		this.append(entry);
+	}
+
+	void modified(String annotationId, String customMessage, Double customPenalty) {
+		ArrayNode entry = oom.createArrayNode();
+		entry.add(MODIFY);
+		entry.add(annotationId);
+		entry.add(customMessage);
+		entry.add(customPenalty);
+		this.append(entry);
+	}
+
+	void removed(String annotationId) {
+		ArrayNode entry = oom.createArrayNode();
+		entry.add(REMOVE);
+		entry.add(annotationId);
+		this.append(entry);
+	}
+
+	/**
+	 * Passes all changes to the target, in the order they were made.
+	 *
+	 * @return the number of changes
+	 */
+	int replay(Target target) {
+		if (this.file == null || !Files.exists(this.file)) {
+			return 0;
+		}
+		String content;
+		try {
+			content = Files.readString(this.file, StandardCharsets.UTF_8);
+			if (!content.isEmpty() && !content.endsWith("\n")) {
+				// the last change has been cut off, the next one starts in a new line
+				Files.writeString(this.file, "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+			}
+		} catch (IOException e) {
+			log.warn("Could not read the journal " + this.file + ": " + e.getMessage());
+			return 0;
+		}
+
+		int replayed = 0;
+		for (String line : content.split("\n")) {
+			if (line.isBlank()) {
+				continue;
+			}
+			try {
+				JsonNode entry = oom.readTree(line);
+				switch (entry.get(0).asText()) {
+				case ADD -> target.add(entry.get(1).asText(), entry.get(2).asText(), entry.get(4).asInt(), entry.get(5).asInt(), entry.get(3).asText(),
+						textOrNull(entry.get(6)), doubleOrNull(entry.get(7)));
+				case MODIFY -> target.modify(entry.get(1).asText(), textOrNull(entry.get(2)), doubleOrNull(entry.get(3)));
+				case REMOVE -> target.remove(entry.get(1).asText());
+				default -> throw new IOException("Unknown change " + entry.get(0));
+				}
+				replayed++;
+			} catch (IOException | RuntimeException e) {
+				// e.g., the last line has been cut off by a crash
+				log.warn("Skipping a broken change in the journal " + this.file + ": " + e.getMessage());
+			}
+		}
+		return replayed;
+	}
+
+	/**
+	 * Deletes all changes, e.g., because they have been saved to Artemis.
+	 */
+	void clear() {
+		if (this.file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(this.file);
+		} catch (IOException e) {
+			log.warn("Could not delete the journal " + this.file + ": " + e.getMessage());
+		}
+	}
+
+	private void append(JsonNode entry) {
+		if (this.file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(this.file.getParent());
+			Files.writeString(this.file, oom.writeValueAsString(entry) + "\n", StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			log.warn("Could not write to the journal " + this.file + ": " + e.getMessage());
+		}
+	}
+
+	private static String textOrNull(JsonNode node) {
+		return node == null || node.isNull() ? null : node.asText();
+	}
+
+	private static Double doubleOrNull(JsonNode node) {
+		return node == null || node.isNull() ? null : node.asDouble();
+	}
+
+	private static Path journalFile(ISubmission submission) {
+		return StateLocation.resolve(JOURNAL_DIRECTORY, submission.getSubmissionId() + ".jsonl");
+	}
+}
@@ -4,10 +4,10 @@ package edu.kit.kastel.eclipse.common.core;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
 import edu.kit.kastel.eclipse.common.api.EclipseArtemisConstants;
@@ -32,7 +32,8 @@ public abstract class ArtemisController extends AbstractController implements IA
 	protected ArtemisController(final String host, final String username, final String password, final IViewInteraction handler) {
 		super(handler);
 		this.clientManager = new RestClientManager(host, username, password);
-		this.lockResults = new HashMap<>();
+		// locks may be acquired by background jobs, too
+		this.lockResults = new ConcurrentHashMap<>();
 		if (host != null && !host.isBlank()) {
 			this.checkVersion();
 			this.loginOrNotify();
@@ -3,12 +3,22 @@ package edu.kit.kastel.eclipse.common.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
 
+import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
+import edu.kit.kastel.eclipse.common.api.EclipseArtemisConstants;
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
 import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ICourse;
@@ -16,11 +26,12 @@ import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
 import edu.kit.kastel.eclipse.common.api.controller.AbstractController;
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
+import edu.kit.kastel.eclipse.common.api.controller.IPenaltyListener;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
 import edu.kit.kastel.eclipse.common.core.artemis.AnnotationDeserializer;
-import edu.kit.kastel.eclipse.common.core.artemis.AnnotationMapper;
+import edu.kit.kastel.eclipse.common.core.artemis.PenaltyCalculator;
 import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
 import edu.kit.kastel.eclipse.common.core.config.ExerciseConfig;
 import edu.kit.kastel.eclipse.common.core.config.ExerciseConfigConverterException;
@@ -31,6 +42,7 @@ import edu.kit.kastel.eclipse.common.core.model.annotation.AnnotationException;
 import edu.kit.kastel.eclipse.common.core.model.annotation.IAnnotationDAO;
 
 public class AssessmentController extends AbstractController implements IAssessmentController {
+	private static final ILog log = Platform.getLog(AssessmentController.class);
 
 	private final GradingSystemwideController systemWideController;
 
@@ -40,6 +52,21 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	private GradingDAO gradingDAO;
 	private IAnnotationDAO annotationDAO;
+	private final PenaltyCalculator penaltyCalculator = new PenaltyCalculator(mistakeType -> this.annotationDAO.getAggregate(mistakeType),
+			mistakeType -> this.annotationDAO.getAnnotations(mistakeType));
+
+	// incremented on every change of the annotations or the config, guarded by this
+	private long stateVersion;
+	// the version Artemis has, -1 until the assessment has been loaded from it
+	private long savedStateVersion = -1;
+
+	// the changes since the last save, guarded by this
+	private final AnnotationJournal journal;
+	private final Job autosave;
+	// time (nanos) of the last change, guarded by this
+	private long lastChange;
+	// whether the autosave must not be scheduled, guarded by this
+	private boolean autosaveStopped;
 
 	/**
 	 * Protected, because the way to get a specific assessment controller should be
@@ -59,6 +86,9 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 		this.annotationDAO = new AnnotationDAO();
 		this.gradingDAO = loadGradingDAO();
+		this.journal = new AnnotationJournal(submission);
+		this.autosave = Job.create("Saving assessment", this::autosave);
+		this.autosave.setSystem(true);
 
 		try {
 			ExerciseConfig exerciseConfig = this.gradingDAO.getExerciseConfig(this.exercise);
@@ -77,9 +107,11 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 		try {
 			this.initializeWithDeserializedAnnotations();
+			this.markLoaded();
 		} catch (IOException e) {
 			this.warn("Deserializing Annotations from Artemis failed (most likely none were present)!");
 		}
+		this.replayJournal();
 	}
 
 	private GradingDAO loadGradingDAO() {
@@ -90,11 +122,22 @@ public class AssessmentController extends AbstractController implements IAssessm
 	public void addAnnotation(String annotationId, IMistakeType mistakeType, int startLine, int endLine, String fullyClassifiedClassName, String customMessage,
 			Double customPenalty) {
 		try {
-			this.annotationDAO.addAnnotation(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty);
+			synchronized (this) {
+				this.add(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty);
+				this.journal.added(this.annotationDAO.getAnnotation(annotationId));
+			}
 		} catch (AnnotationException e) {
 			this.error(e.getMessage(), e);
+			return;
 		}
+		this.penaltyCalculator.invalidate(mistakeType);
+		this.scheduleAutosave();
+	}
 
+	private synchronized void add(String annotationId, IMistakeType mistakeType, int startLine, int endLine, String fullyClassifiedClassName,
+			String customMessage, Double customPenalty) throws AnnotationException {
+		this.annotationDAO.addAnnotation(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty);
+		this.changed();
 	}
 
 	@Override
@@ -109,14 +152,23 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	}
 
+	private void deleteAssessmentMarkers(IProjectFileNamingStrategy projectNaming) {
+		final String projectName = projectNaming.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.exercise, this.submission).getName();
+		try {
+			WorkspaceUtil.deleteMarkers(projectName, EclipseArtemisConstants.ASSESSMENT_MARKER_TYPE);
+		} catch (CoreException e) {
+			this.error("Eclipse Exception occurred while trying to delete the markers of the project: " + e.getMessage(), e);
+		}
+	}
+
 	@Override
-	public List<IAnnotation> getAnnotations() {
-		return this.annotationDAO.getAnnotations().stream().toList();
+	public synchronized List<IAnnotation> getAnnotations() {
+		return this.annotationDAO.getAnnotations();
 	}
 
 	@Override
 	public Optional<IAnnotation> getAnnotationById(String id) {
-		return this.annotationDAO.getAnnotations().stream().filter(annotation -> annotation.getUUID().equals(id)).findFirst();
+		return this.annotationDAO.findAnnotation(id);
 	}
 
 	@Override
@@ -151,12 +203,17 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public IRatingGroup getRatingGroupById(String id) {
-		Optional<IRatingGroup> ratingGroupOptional = this.getRatingGroups().stream().filter(ratingGroup -> ratingGroup.getIdentifier().equals(id)).findFirst();
-		if (ratingGroupOptional.isPresent()) {
-			return ratingGroupOptional.get();
+		IRatingGroup ratingGroup;
+		try {
+			ratingGroup = gradingDAO.getExerciseConfig(this.exercise).getIRatingGroup(id);
+		} catch (ExerciseConfigConverterException | IOException e) {
+			this.error("Exercise Config not parseable: " + e.getMessage(), e);
+			return null;
 		}
-		this.error("Rating Group \"" + id + "\" not found in config!", null);
-		return null;
+		if (ratingGroup == null) {
+			this.error("Rating Group \"" + id + "\" not found in config!", null);
+		}
+		return ratingGroup;
 	}
 
 	@Override
@@ -171,8 +228,10 @@ public class AssessmentController extends AbstractController implements IAssessm
 
 	@Override
 	public String getTooltipForMistakeType(String languageKey, IMistakeType mistakeType) {
-		List<IAnnotation> annotations = this.getAnnotations().stream().filter(annotation -> annotation.getMistakeType().equals(mistakeType)).toList();
-		return mistakeType.getTooltip(languageKey, annotations);
+		if (mistakeType.supportsAggregate()) {
+			return mistakeType.getTooltip(languageKey, this.annotationDAO.getAggregate(mistakeType));
+		}
+		return mistakeType.getTooltip(languageKey, this.annotationDAO.getAnnotations(mistakeType));
 	}
 
 	private void initializeWithDeserializedAnnotations() throws IOException {
@@ -183,41 +242,253 @@ public class AssessmentController extends AbstractController implements IAssessm
 		}
 
 		for (IAnnotation annotation : annotationDeserializer.deserialize(allFeedbacksGottenFromLocking)) {
-			this.addAnnotation(annotation.getUUID(), annotation.getMistakeType(), annotation.getStartLine(), annotation.getEndLine(),
-					annotation.getClassFilePath(), annotation.getCustomMessage().orElse(null), annotation.getCustomPenalty().orElse(null));
+			try {
+				// already saved, so not journaled
+				this.add(annotation.getUUID(), annotation.getMistakeType(), annotation.getStartLine(), annotation.getEndLine(), annotation.getClassFilePath(),
+						annotation.getCustomMessage().orElse(null), annotation.getCustomPenalty().orElse(null));
+				this.penaltyCalculator.invalidate(annotation.getMistakeType());
+			} catch (AnnotationException e) {
+				this.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Applies the changes that have not been saved before the submission was
+	 * closed (or Eclipse crashed) on top of the annotations from Artemis.
+	 */
+	private void replayJournal() {
+		Map<String, IMistakeType> mistakeTypes = this.getMistakes().stream()
+				.collect(Collectors.toMap(IMistakeType::getIdentifier, Function.identity(), (first, second) -> first));
+		int replayed = this.journal.replay(new AnnotationJournal.Target() {
+			@Override
+			public void add(String annotationId, String mistakeTypeId, int startLine, int endLine, String classFilePath, String customMessage,
+					Double customPenalty) {
+				IMistakeType mistakeType = mistakeTypes.get(mistakeTypeId);
+				if (mistakeType == null) {
+					log.warn("Cannot restore annotation " + annotationId + ": mistake type " + mistakeTypeId + " not found in local config");
+					return;
+				}
+				if (AssessmentController.this.annotationDAO.findAnnotation(annotationId).isEmpty()) {
+					try {
+						AssessmentController.this.add(annotationId, mistakeType, startLine, endLine, classFilePath, customMessage, customPenalty);
+						AssessmentController.this.penaltyCalculator.invalidate(mistakeType);
+					} catch (AnnotationException e) {
+						log.warn("Cannot restore annotation " + annotationId + ": " + e.getMessage());
+					}
+				}
+			}
+
+			@Override
+			public void modify(String annotationId, String customMessage, Double customPenalty) {
+				if (AssessmentController.this.annotationDAO.findAnnotation(annotationId).isPresent()) {
+					AssessmentController.this.penaltyCalculator.invalidate(AssessmentController.this.modify(annotationId, customMessage, customPenalty));
+				}
+			}
+
+			@Override
+			public void remove(String annotationId) {
+				AssessmentController.this.remove(annotationId)
+						.ifPresent(removed -> AssessmentController.this.penaltyCalculator.invalidate(removed.getMistakeType()));
+			}
+		});
+		if (replayed > 0) {
+			log.info("Restored " + replayed + " unsaved changes of submission " + this.submission.getSubmissionId());
+			this.scheduleAutosave();
 		}
 	}
 
 	@Override
 	public void modifyAnnotation(String annatationId, String customMessage, Double customPenalty) {
-		this.annotationDAO.modifyAnnotation(annatationId, customMessage, customPenalty);
+		IMistakeType mistakeType;
+		synchronized (this) {
+			mistakeType = this.modify(annatationId, customMessage, customPenalty);
+			this.journal.modified(annatationId, customMessage, customPenalty);
+		}
+		this.penaltyCalculator.invalidate(mistakeType);
+		this.scheduleAutosave();
+	}
+
+	private synchronized IMistakeType modify(String annotationId, String customMessage, Double customPenalty) {
+		this.annotationDAO.modifyAnnotation(annotationId, customMessage, customPenalty);
+		this.changed();
+		return this.annotationDAO.getAnnotation(annotationId).getMistakeType();
 	}
 
 	@Override
 	public void removeAnnotation(String annotationId) {
-		this.annotationDAO.removeAnnotation(annotationId);
+		Optional<IAnnotation> annotation;
+		synchronized (this) {
+			annotation = this.remove(annotationId);
+			annotation.ifPresent(removed -> this.journal.removed(annotationId));
+		}
+		if (annotation.isPresent()) {
+			this.penaltyCalculator.invalidate(annotation.get().getMistakeType());
+			this.scheduleAutosave();
+		}
+	}
+
+	private synchronized Optional<IAnnotation> remove(String annotationId) {
+		Optional<IAnnotation> annotation = this.annotationDAO.findAnnotation(annotationId);
+		if (annotation.isPresent()) {
+			this.annotationDAO.removeAnnotation(annotationId);
+			this.changed();
+		}
+		return annotation;
 	}
 
 	@Override
 	public void resetAndRestartAssessment(IProjectFileNamingStrategy projectNaming) {
-		this.deleteEclipseProject(projectNaming);
+		// the state of Artemis replaces the local changes, a save that is still
+		// running must not overwrite it
+		this.stopAutosave();
+		this.journal.clear();
 		this.systemWideController.getArtemisController().startAssessment(this.submission);
-		this.systemWideController.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, projectNaming);
+		this.deleteAssessmentMarkers(projectNaming);
+		// reuse the local project if possible, download it again otherwise
+		if (!this.systemWideController.refreshExerciseAndSubmission(this.exercise, this.submission, projectNaming)) {
+			this.deleteEclipseProject(projectNaming);
+			this.systemWideController.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, projectNaming);
+		}
 
-		this.annotationDAO = new AnnotationDAO();
-		this.gradingDAO = loadGradingDAO();
+		synchronized (this) {
+			this.annotationDAO = new AnnotationDAO();
+			this.gradingDAO = loadGradingDAO();
+			this.changed();
+		}
+		this.penaltyCalculator.invalidateAll(this.getRatingGroups());
 
 		try {
 			this.initializeWithDeserializedAnnotations();
+			this.markLoaded();
 		} catch (IOException e) {
 			this.info("Deserializing Annotations from Artemis failed: " + e.getMessage());
 		}
+		this.resumeAutosave();
 	}
 
 	@Override
 	public double getCurrentPenaltyForRatingGroup(IRatingGroup ratingGroup) {
-		AnnotationMapper mapper = //
-				new AnnotationMapper(exercise, submission, getAnnotations(), getRatingGroups(), null, null);
-		return mapper.calculatePointsForRatingGroup(ratingGroup).points();
+		return this.penaltyCalculator.getPoints(ratingGroup).points();
+	}
+
+	@Override
+	public void addPenaltyListener(IPenaltyListener listener) {
+		this.penaltyCalculator.addListener(listener);
+	}
+
+	@Override
+	public void removePenaltyListener(IPenaltyListener listener) {
+		this.penaltyCalculator.removeListener(listener);
+	}
+
+	@Override
+	public synchronized long getStateVersion() {
+		return this.stateVersion;
+	}
+
+	@Override
+	public synchronized void markSaved(long stateVersion) {
+		this.savedStateVersion = Math.max(this.savedStateVersion, stateVersion);
+		if (!this.hasUnsavedChanges()) {
+			this.journal.clear();
+		}
+	}
+
+	/**
+	 * Marks the current state as the one Artemis has, without clearing the
+	 * journal that is replayed on top of it.
+	 */
+	private synchronized void markLoaded() {
+		this.savedStateVersion = this.stateVersion;
+	}
+
+	@Override
+	public synchronized boolean hasUnsavedChanges() {
+		return this.savedStateVersion != this.stateVersion;
+	}
+
+	@Override
+	public void stopAutosave() {
+		synchronized (this) {
+			this.autosaveStopped = true;
+		}
+		this.autosave.cancel();
+		try {
+			// a save that is already running must not overtake the caller's request
+			this.autosave.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void resumeAutosave() {
+		synchronized (this) {
+			this.autosaveStopped = false;
+		}
+		if (this.hasUnsavedChanges()) {
+			this.scheduleAutosave();
+		}
+	}
+
+	private synchronized void changed() {
+		this.stateVersion++;
+		this.lastChange = System.nanoTime();
+	}
+
+	private Duration getAutosaveDelay() {
+		return Duration.ofSeconds(this.systemWideController.getPreferences().getInt(PreferenceConstants.GRADING_AUTOSAVE_DELAY_SECONDS));
+	}
+
+	private void scheduleAutosave() {
+		Duration delay = this.getAutosaveDelay();
+		// also while the job is running: it then runs once more after finishing, so
+		// a change made after its last check is not left unsaved
+		if (!delay.isZero() && !delay.isNegative()) {
+			this.rescheduleAutosave(delay.toMillis());
+		}
+	}
+
+	private synchronized void rescheduleAutosave(long delayMillis) {
+		if (!this.autosaveStopped) {
+			this.autosave.schedule(delayMillis);
+		}
+	}
+
+	/**
+	 * Saves the assessment once no change has been made for the autosave delay, so
+	 * a burst of changes is sent only once.
+	 */
+	private void autosave(IProgressMonitor monitor) {
+		Duration delay = this.getAutosaveDelay();
+		synchronized (this) {
+			if (this.autosaveStopped) {
+				return;
+			}
+		}
+		if (monitor.isCanceled() || delay.isZero() || delay.isNegative()) {
+			return;
+		}
+		Duration idle;
+		synchronized (this) {
+			idle = Duration.ofNanos(System.nanoTime() - this.lastChange);
+		}
+		if (idle.compareTo(delay) < 0) {
+			this.rescheduleAutosave(delay.minus(idle).toMillis() + 1);
+			return;
+		}
+
+		try {
+			this.systemWideController.getArtemisController().trySaveAssessment(this, this.exercise, this.submission);
+		} catch (ArtemisClientException | IllegalStateException e) {
+			// the changes are kept in the journal and sent with the next save
+			log.warn("Could not save submission " + this.submission.getSubmissionId() + " automatically: " + e.getMessage());
+			return;
+		}
+		if (this.hasUnsavedChanges()) {
+			// changed while saving
+			this.rescheduleAutosave(delay.toMillis());
+		}
 	}
 }
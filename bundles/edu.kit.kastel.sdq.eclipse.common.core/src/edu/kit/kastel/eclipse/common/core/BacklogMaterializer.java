@@ -0,0 +1,229 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+
+import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
+import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
+import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
+import edu.kit.kastel.eclipse.common.core.artemis.StateLocation;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
+
+/**
+ * Prepares the projects of all begun submissions (the backlog) of an exercise
+ * in the background: locks them (which also fetches their annotations),
+ * downloads them and imports them as built projects. Loading a prepared
+ * submission from the backlog then needs no request to Artemis.
+ * <p>
+ * The submissions still to be prepared are stored in the state location of
+ * this bundle, so an interrupted run can be resumed after a restart.
+ */
+final class BacklogMaterializer {
+	private static final ILog log = Platform.getLog(BacklogMaterializer.class);
+
+	private static final String PENDING_DIRECTORY = "backlog";
+	private static final int MAX_THREADS = 2;
+	// how long claiming waits for a preparation of the submission to stop
+	private static final long CLAIM_TIMEOUT_MILLIS = 10_000;
+
+	private final IGradingArtemisController artemisController;
+	private final IExerciseArtemisController exerciseController;
+	private final IProjectFileNamingStrategy namingStrategy;
+	private final JobGroup jobs = new JobGroup("Preparing backlog", MAX_THREADS, 0);
+	// prepared with a lock of this controller, but not loaded yet
+	private final Set<Integer> prepared = ConcurrentHashMap.newKeySet();
+	// scheduled or running preparations by submission id
+	private final Map<Integer, Job> inFlight = new ConcurrentHashMap<>();
+
+	BacklogMaterializer(IGradingArtemisController artemisController, IExerciseArtemisController exerciseController,
+			IProjectFileNamingStrategy namingStrategy) {
+		this.artemisController = artemisController;
+		this.exerciseController = exerciseController;
+		this.namingStrategy = namingStrategy;
+	}
+
+	/**
+	 * Prepares the given submissions of the exercise unless their projects
+	 * already exist.
+	 */
+	void materialize(IExercise exercise, Collection<ISubmission> submissions) {
+		File workspace = WorkspaceUtil.getWorkspaceFile();
+		List<ISubmission> missing = submissions.stream()
+				.filter(submission -> !this.namingStrategy.getProjectFileInWorkspace(workspace, exercise, submission).exists()).toList();
+		addPending(exercise, missing.stream().map(ISubmission::getSubmissionId).toList());
+		missing.forEach(submission -> this.schedule(exercise, submission));
+	}
+
+	/**
+	 * Continues an interrupted run for the exercise (if any).
+	 *
+	 * @param begunSubmissions the current backlog of the exercise
+	 */
+	void resume(IExercise exercise, Collection<ISubmission> begunSubmissions) {
+		Set<Integer> pending = readPending(exercise);
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<ISubmission> toResume = begunSubmissions.stream().filter(submission -> pending.contains(submission.getSubmissionId())).toList();
+		// submissions that are no longer in the backlog are dropped
+		writePending(exercise, toResume.stream().map(ISubmission::getSubmissionId).collect(Collectors.toCollection(LinkedHashSet::new)));
+		this.materialize(exercise, toResume);
+	}
+
+	/**
+	 * Stops a preparation of the submission that has not completed, yet, so the
+	 * caller can load it without racing the download or the import.
+	 *
+	 * @return whether the submission has been prepared (and locked) and can be
+	 *         opened directly
+	 */
+	boolean claim(ISubmission submission) {
+		Job job = this.inFlight.get(submission.getSubmissionId());
+		if (job != null && job.cancel()) {
+			// had not started yet
+			this.inFlight.remove(submission.getSubmissionId());
+		} else if (job != null) {
+			// running, canceling deletes what has been prepared so far
+			try {
+				if (!job.join(CLAIM_TIMEOUT_MILLIS, null)) {
+					log.warn("Preparing submission " + submission.getSubmissionId() + " did not stop in time");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return this.prepared.remove(submission.getSubmissionId());
+	}
+
+	/**
+	 * @return whether there are submissions that are still waiting to be
+	 *         prepared for the exercise (e.g., from a previous session)
+	 */
+	boolean hasPending(IExercise exercise) {
+		return !readPending(exercise).isEmpty();
+	}
+
+	/**
+	 * Stops preparing. The remaining submissions are kept for {@link #resume}.
+	 */
+	void cancel() {
+		this.jobs.cancel();
+	}
+
+	private void schedule(IExercise exercise, ISubmission submission) {
+		Job job = Job.create("Preparing submission " + submission.getParticipantIdentifier(), monitor -> {
+			try {
+				this.prepare(exercise, submission, monitor);
+			} finally {
+				this.inFlight.remove(submission.getSubmissionId());
+			}
+		});
+		job.setJobGroup(this.jobs);
+		this.inFlight.put(submission.getSubmissionId(), job);
+		job.schedule();
+	}
+
+	private void prepare(IExercise exercise, ISubmission submission, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
+			return;
+		}
+		File workspace = WorkspaceUtil.getWorkspaceFile();
+		File projectDirectory = this.namingStrategy.getProjectFileInWorkspace(workspace, exercise, submission);
+		boolean creating = false;
+		try {
+			if (!projectDirectory.exists()) {
+				this.artemisController.lockAssessment(submission);
+				creating = true;
+				this.exerciseController.downloadExerciseAndSubmission(exercise, submission, workspace, this.namingStrategy, monitor);
+				CompletableFuture<Void> built = new CompletableFuture<>();
+				WorkspaceUtil.createEclipseProject(projectDirectory, List.of(project -> built.complete(null)));
+				if (SubmissionPrefetcher.awaitBuild(built, monitor)) {
+					this.prepared.add(submission.getSubmissionId());
+				} else {
+					// canceled or stuck, a half-imported project must not be loaded
+					log.warn("Could not prepare " + projectDirectory.getName() + ": it has not been built in time");
+					WorkspaceUtil.deleteProjectQuietly(projectDirectory);
+				}
+			}
+		} catch (ArtemisClientException | CoreException e) {
+			// not retried: the submission can still be loaded from the backlog as before
+			log.warn("Could not prepare " + projectDirectory.getName() + ": " + e.getMessage());
+			if (creating) {
+				// a partially downloaded or imported project must not be loaded
+				WorkspaceUtil.deleteProjectQuietly(projectDirectory);
+			}
+		}
+		if (!monitor.isCanceled()) {
+			removePending(exercise, submission.getSubmissionId());
+		}
+	}
+
+	private static synchronized void addPending(IExercise exercise, Collection<Integer> submissionIds) {
+		Set<Integer> pending = readPending(exercise);
+		pending.addAll(submissionIds);
+		writePending(exercise, pending);
+	}
+
+	private static synchronized void removePending(IExercise exercise, int submissionId) {
+		Set<Integer> pending = readPending(exercise);
+		if (pending.remove(submissionId)) {
+			writePending(exercise, pending);
+		}
+	}
+
+	private static synchronized Set<Integer> readPending(IExercise exercise) {
+		Path file = pendingFile(exercise);
+		if (file == null || !Files.exists(file)) {
+			return new LinkedHashSet<>();
+		}
+		try {
+			return Files.readAllLines(file).stream().filter(line -> !line.isBlank()).map(line -> Integer.valueOf(line.strip()))
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+		} catch (IOException | NumberFormatException e) {
+			log.warn("Could not read the pending backlog of exercise " + exercise.getExerciseId() + ": " + e.getMessage());
+			return new LinkedHashSet<>();
+		}
+	}
+
+	private static synchronized void writePending(IExercise exercise, Set<Integer> pending) {
+		Path file = pendingFile(exercise);
+		if (file == null) {
+			return;
+		}
+		try {
+			if (pending.isEmpty()) {
+				Files.deleteIfExists(file);
+				return;
+			}
+			Files.createDirectories(file.getParent());
+			Files.write(file, pending.stream().map(String::valueOf).toList());
+		} catch (IOException e) {
+			log.warn("Could not store the pending backlog of exercise " + exercise.getExerciseId() + ": " + e.getMessage());
+		}
+	}
+
+	private static Path pendingFile(IExercise exercise) {
+		return StateLocation.resolve(PENDING_DIRECTORY, exercise.getExerciseId() + ".txt");
+	}
+}
@@ -2,7 +2,19 @@
 package edu.kit.kastel.eclipse.common.core;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jgit.lib.NullProgressMonitor;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
@@ -14,11 +26,25 @@ import edu.kit.kastel.eclipse.common.api.artemis.mapping.User;
 import edu.kit.kastel.eclipse.common.api.controller.AbstractController;
 import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.client.git.CloneOptions;
 import edu.kit.kastel.eclipse.common.client.git.GitCredentials;
 import edu.kit.kastel.eclipse.common.client.git.GitException;
 import edu.kit.kastel.eclipse.common.client.git.GitHandler;
+import edu.kit.kastel.eclipse.common.client.git.GitProgressMonitor;
 
 public class ExerciseArtemisController extends AbstractController implements IExerciseArtemisController {
+	private static final String DOWNLOAD_FAILED = "Unable to download exercise and submission: ";
+	// created by Eclipse and the build, not part of the test repository
+	private static final Set<String> PROJECT_FILES_TO_KEEP = Set.of(".project", ".classpath", ".settings", "target", "bin");
+
+	// bounds the concurrent transfers of all downloads (incl. the ones prepared in
+	// advance)
+	private static final ExecutorService TRANSFERS = Executors.newFixedThreadPool(4, runnable -> {
+		Thread thread = new Thread(runnable, "Artemis repository download");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	private String username;
 	private String gitPassword;
 
@@ -40,24 +66,116 @@ public class ExerciseArtemisController extends AbstractController implements IEx
 	}
 
 	@Override
-	public void downloadExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy)
-			throws ArtemisClientException {
+	public void downloadExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy,
+			IProgressMonitor monitor) throws ArtemisClientException {
 		final File projectDirectory = namingStrategy.getProjectFileInWorkspace(dir, exercise, submission);
 		this.existsAndThrow(projectDirectory);
+
+		var credentials = new GitCredentials(this.username, this.gitPassword);
+		SubMonitor progress = SubMonitor.convert(monitor, "Downloading " + projectDirectory.getName(), 2);
+		// JGit only clones into empty directories, so the submission is cloned next to
+		// the project and moved into it afterwards
+		Path staging = createStagingDirectory(dir, projectDirectory);
+
+		// download submission while the test repository is downloaded
+		Future<?> submissionTransfer = TRANSFERS.submit(() -> {
+			GitHandler.cloneRepo(staging.toFile(), submission.getRepositoryUrl(), credentials, CloneOptions.LATEST,
+					new GitProgressMonitor(progress, "Submission"));
+			return null;
+		});
+
+		GitException failure = null;
 		try {
-			if (projectDirectory.exists()) {
-				throw new ArtemisClientException("Could not clone project " + projectDirectory.getName() + ", " + "directory already exists!");
+			// Download test repository (from the local mirror of the exercise)
+			TestRepositoryMirrors.cloneTestRepository(exercise, projectDirectory, credentials, new GitProgressMonitor(progress, "Tests"));
+		} catch (GitException e) {
+			failure = e;
+		}
+		worked(progress);
+		failure = awaitTransfer(submissionTransfer, failure);
+		worked(progress);
+
+		try {
+			if (failure == null) {
+				// move submission inside the exercise project directory
+				Files.move(staging, namingStrategy.getAssignmentFileInProjectDirectory(projectDirectory).toPath());
 			}
+		} catch (IOException e) {
+			failure = new GitException("Could not move the submission into " + projectDirectory.getName(), e);
+		} finally {
+			deleteDirectory(staging.toFile());
+		}
+
+		if (failure != null) {
+			deleteDirectory(projectDirectory);
+			throw new ArtemisClientException(DOWNLOAD_FAILED + failure.getMessage(), failure);
+		}
+	}
 
-			var credentials = new GitCredentials(this.username, this.gitPassword);
-			// Download test repository
-			GitHandler.cloneRepo(projectDirectory, exercise.getTestRepositoryUrl(), credentials);
-			// download submission inside the exercise project directory
-			GitHandler.cloneRepo(namingStrategy.getAssignmentFileInProjectDirectory(projectDirectory), submission.getRepositoryUrl(), credentials);
+	@Override
+	public void refreshExerciseAndSubmission(IExercise exercise, ISubmission submission, File dir, IProjectFileNamingStrategy namingStrategy)
+			throws ArtemisClientException {
+		final File projectDirectory = namingStrategy.getProjectFileInWorkspace(dir, exercise, submission);
+		final File assignmentDirectory = namingStrategy.getAssignmentFileInProjectDirectory(projectDirectory);
+		if (!new File(projectDirectory, ".git").isDirectory() || !new File(assignmentDirectory, ".git").isDirectory()) {
+			throw new ArtemisClientException("Project " + projectDirectory.getName() + " has not been downloaded completely");
+		}
+
+		Set<String> keep = new HashSet<>(PROJECT_FILES_TO_KEEP);
+		keep.add(projectDirectory.toPath().relativize(assignmentDirectory.toPath()).toString().replace(File.separatorChar, '/'));
+		var credentials = new GitCredentials(this.username, this.gitPassword);
+		String commitHash = submission.getCommitHash();
+		try {
+			// the test repository does not change during the assessment, no need to fetch
+			GitHandler.resetAndClean(projectDirectory, null, keep);
+			GitHandler.fetchRepo(assignmentDirectory, credentials, NullProgressMonitor.INSTANCE);
+			if (commitHash != null && !GitHandler.hasCommit(assignmentDirectory, commitHash)) {
+				// the submission is a shallow clone, the locked commit is not in its history
+				// if the branch has moved on
+				GitHandler.fetchCommit(assignmentDirectory, commitHash, CloneOptions.LATEST.depth(), credentials, NullProgressMonitor.INSTANCE);
+			}
+			// fails if the locked commit is still not available, the project is downloaded again then
+			GitHandler.resetAndClean(assignmentDirectory, commitHash, Set.of());
 		} catch (GitException e) {
-			throw new ArtemisClientException("Unable to download exercise and submission: " + e.getMessage(), e);
+			throw new ArtemisClientException("Unable to refresh exercise and submission: " + e.getMessage(), e);
+		}
+	}
+
+	private static Path createStagingDirectory(File dir, File projectDirectory) throws ArtemisClientException {
+		try {
+			return Files.createTempDirectory(dir.toPath(), "." + projectDirectory.getName() + "-");
+		} catch (IOException e) {
+			throw new ArtemisClientException(DOWNLOAD_FAILED + e.getMessage(), e);
 		}
+	}
+
+	private static void worked(SubMonitor progress) {
+		synchronized (progress) {
+			progress.worked(1);
+		}
+	}
 
+	/**
+	 * Waits for the transfer. Its failure is returned, or added to the given one.
+	 */
+	private static GitException awaitTransfer(Future<?> transfer, GitException failure) {
+		GitException transferFailure;
+		try {
+			transfer.get();
+			return failure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			transfer.cancel(true);
+			transferFailure = new GitException("Download of the submission has been interrupted", e);
+		} catch (ExecutionException e) {
+			transferFailure = e.getCause() instanceof GitException gitException ? gitException : new GitException(e.getCause().getMessage(), e.getCause());
+		}
+
+		if (failure == null) {
+			return transferFailure;
+		}
+		failure.addSuppressed(transferFailure);
+		return failure;
 	}
 
 	public static boolean deleteDirectory(File directory) {
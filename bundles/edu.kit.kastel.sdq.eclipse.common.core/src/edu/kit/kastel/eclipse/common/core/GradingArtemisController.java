@@ -14,6 +14,7 @@ import edu.kit.kastel.eclipse.common.api.controller.ExerciseStats;
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.api.controller.SaveResult;
 import edu.kit.kastel.eclipse.common.api.messages.Messages;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
@@ -44,52 +45,83 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 	}
 
 	@Override
-	public boolean saveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission, boolean submit) {
-		if (!this.lockResults.containsKey(submission.getSubmissionId())) {
-			throw new IllegalStateException("Assessment not started, yet!");
+	public SaveResult saveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission, boolean submit) {
+		try {
+			return this.send(assessmentController, exercise, submission, submit);
+		} catch (IOException e) {
+			this.error("Local backend failed to format the annotations: " + e.getMessage(), e);
+			return SaveResult.FAILED;
+		} catch (ArtemisClientException e) {
+			this.error("Assessor could not be retrieved from Artemis or Authentication to Artemis failed:" + e.getMessage(), e);
+			return SaveResult.FAILED;
 		}
+	}
+
+	@Override
+	public SaveResult trySaveAssessment(IAssessmentController assessmentController, IExercise exercise, ISubmission submission)
+			throws ArtemisClientException {
+		try {
+			return this.send(assessmentController, exercise, submission, false);
+		} catch (IOException e) {
+			throw new ArtemisClientException("Local backend failed to format the annotations: " + e.getMessage(), e);
+		}
+	}
+
+	private SaveResult send(IAssessmentController assessmentController, IExercise exercise, ISubmission submission, boolean submit)
+			throws IOException, ArtemisClientException {
 		final ILockResult lock = this.lockResults.get(submission.getSubmissionId());
+		if (lock == null) {
+			throw new IllegalStateException("Assessment not started, yet!");
+		}
+		if (!submit && !assessmentController.hasUnsavedChanges()) {
+			// Artemis already has this state
+			return SaveResult.UNCHANGED;
+		}
 		final int participationId = lock.getParticipationId();
 
+		// read before the annotations, so concurrent changes are not considered saved
+		final long stateVersion = assessmentController.getStateVersion();
 		final List<IAnnotation> annotations = assessmentController.getAnnotations();
 		final List<IRatingGroup> ratingGroups = assessmentController.getRatingGroups();
 
-		try {
-			AnnotationMapper mapper = //
-					new AnnotationMapper(exercise, submission, annotations, ratingGroups, this.clientManager.getAuthenticationClient().getUser(), lock);
-			this.clientManager.getAssessmentArtemisClient().saveAssessment(participationId, submit, mapper.createAssessmentResult());
-		} catch (IOException e) {
-			this.error("Local backend failed to format the annotations: " + e.getMessage(), e);
-			return false;
-		} catch (ArtemisClientException e) {
-			this.error("Assessor could not be retrieved from Artemis or Authentication to Artemis failed:" + e.getMessage(), e);
-			return false;
-		}
+		AnnotationMapper mapper = //
+				new AnnotationMapper(exercise, submission, annotations, ratingGroups, this.clientManager.getAuthenticationClient().getUser(), lock);
+		this.clientManager.getAssessmentArtemisClient().saveAssessment(participationId, submit, mapper.createAssessmentResult());
 
+		assessmentController.markSaved(stateVersion);
 		if (submit) {
 			this.lockResults.remove(submission.getSubmissionId());
 		}
-		return true;
+		return SaveResult.SAVED;
 	}
 
 	@Override
 	public void startAssessment(ISubmission submissionId) {
 		try {
-			this.lockResults.put(submissionId.getSubmissionId(), this.clientManager.getAssessmentArtemisClient().startAssessment(submissionId));
+			this.lockAssessment(submissionId);
 		} catch (ArtemisClientException e) {
 			this.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
 		}
 	}
 
+	@Override
+	public void lockAssessment(ISubmission submission) throws ArtemisClientException {
+		this.lockResults.put(submission.getSubmissionId(), this.clientManager.getAssessmentArtemisClient().startAssessment(submission));
+	}
+
 	@Override
 	public Optional<ISubmission> startNextAssessment(IExercise exercise, int correctionRound) {
-		Optional<ILockResult> lockResultOptional;
 		try {
-			lockResultOptional = this.clientManager.getAssessmentArtemisClient().startNextAssessment(exercise, correctionRound);
+			return this.lockNextAssessment(exercise, correctionRound);
 		} catch (ArtemisClientException e) {
 			this.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
 			return Optional.empty();
 		}
+	}
+
+	@Override
+	public Optional<ISubmission> lockNextAssessment(IExercise exercise, int correctionRound) throws ArtemisClientException {
+		Optional<ILockResult> lockResultOptional = this.clientManager.getAssessmentArtemisClient().startNextAssessment(exercise, correctionRound);
 		if (lockResultOptional.isEmpty()) {
 			return Optional.empty();
 		}
@@ -97,12 +129,13 @@ public class GradingArtemisController extends ArtemisController implements IGrad
 
 		final int submissionID = lockResult.getSubmissionId();
 		this.lockResults.put(submissionID, lockResult);
-		try {
-			return Optional.of(exercise.getSubmission(submissionID));
-		} catch (ArtemisClientException e) {
-			this.error(Messages.ASSESSMENT_COULD_NOT_BE_STARTED_MESSAGE + e.getMessage(), e);
-			return Optional.empty();
-		}
+		return Optional.of(exercise.getSubmission(submissionID));
+	}
+
+	@Override
+	public void cancelAssessment(ISubmission submission) throws ArtemisClientException {
+		this.clientManager.getAssessmentArtemisClient().cancelAssessment(submission);
+		this.lockResults.remove(submission.getSubmissionId());
 	}
 
 	@Override
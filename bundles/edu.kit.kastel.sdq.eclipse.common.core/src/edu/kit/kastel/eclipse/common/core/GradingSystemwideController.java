@@ -9,8 +9,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
@@ -26,11 +29,20 @@ import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
 import edu.kit.kastel.eclipse.common.api.controller.IViewInteraction;
+import edu.kit.kastel.eclipse.common.api.controller.SaveResult;
 import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
 
 public class GradingSystemwideController extends SystemwideController implements IGradingSystemwideController {
+	private static final ILog log = Platform.getLog(GradingSystemwideController.class);
+
 	private final Map<Integer, IAssessmentController> assessmentControllers = new HashMap<>();
+	// begun submissions of the current exercise by their project name
+	private final Map<String, ISubmission> submissionsByProjectName = new HashMap<>();
 	private IGradingArtemisController artemisController;
+	// prepares the next submissions in advance (if enabled)
+	private SubmissionPrefetcher prefetcher;
+	// prepares the begun submissions of the current exercise (on request)
+	private BacklogMaterializer backlogMaterializer;
 
 	private ISubmission submission;
 
@@ -84,9 +96,19 @@ public class GradingSystemwideController extends SystemwideController implements
 			return List.of();
 		}
 
-		return this.getBegunSubmissions().stream().map(
-				sub -> this.projectFileNamingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.getCurrentExercise(), sub).getName())
-				.sorted().toList();
+		this.indexBegunSubmissions();
+		return this.submissionsByProjectName.keySet().stream().sorted().toList();
+	}
+
+	private void indexBegunSubmissions() {
+		this.submissionsByProjectName.clear();
+		for (ISubmission begunSubmission : this.getBegunSubmissions()) {
+			this.submissionsByProjectName.put(this.getProjectName(begunSubmission), begunSubmission);
+		}
+	}
+
+	private String getProjectName(ISubmission submission) {
+		return this.projectFileNamingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.getCurrentExercise(), submission).getName();
 	}
 
 	@Override
@@ -127,8 +149,21 @@ public class GradingSystemwideController extends SystemwideController implements
 			return;
 		}
 
+		this.activateCurrentProject();
+		if (this.prefetcher != null && this.prefetcher.claim(this.submission)) {
+			// already locked and imported in advance
+			this.notifyBuildCompleted();
+			return;
+		}
+		if (this.backlogMaterializer != null && this.backlogMaterializer.claim(this.submission)) {
+			// already locked and imported by the backlog preparation
+			this.notifyBuildCompleted();
+			return;
+		}
 		this.artemisController.startAssessment(this.submission);
-		this.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, this.projectFileNamingStrategy);
+		if (!this.refreshExerciseAndSubmission(this.exercise, this.submission, this.projectFileNamingStrategy)) {
+			this.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, this.projectFileNamingStrategy);
+		}
 	}
 
 	@Override
@@ -142,7 +177,15 @@ public class GradingSystemwideController extends SystemwideController implements
 
 		for (IExercise ex : exercises) {
 			if (ex.getShortName().equals(exerciseShortName)) {
+				boolean changed = this.exercise == null || this.exercise.getExerciseId() != ex.getExerciseId();
+				if (changed) {
+					this.submissionsByProjectName.clear();
+					this.releasePreparedSubmissions(false);
+				}
 				this.exercise = ex;
+				if (changed) {
+					this.resumeBacklogPreparation();
+				}
 				return;
 			}
 		}
@@ -158,24 +201,32 @@ public class GradingSystemwideController extends SystemwideController implements
 	}
 
 	@Override
-	public void saveAssessment() {
+	public SaveResult saveAssessment() {
 		if (this.nullCheckMembersAndNotify(true, true, true)) {
-			return;
+			return SaveResult.FAILED;
 		}
 
-		this.artemisController.saveAssessment(this.getCurrentAssessmentController(), this.exercise, this.submission, false);
+		IAssessmentController assessmentController = this.getCurrentAssessmentController();
+		// an autosave that is still running must not arrive after this save
+		assessmentController.stopAutosave();
+		try {
+			return this.artemisController.saveAssessment(assessmentController, this.exercise, this.submission, false);
+		} finally {
+			assessmentController.resumeAutosave();
+		}
 	}
 
 	@Override
 	public void setAssessedSubmissionByProjectName(String projectName) {
-
-		for (var submission : this.getBegunSubmissions()) {
-			String currentProjectName = this.projectFileNamingStrategy
-					.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.getCurrentExercise(), submission).getName();
-			if (currentProjectName.equals(projectName)) {
-				this.submission = submission;
-				return;
-			}
+		ISubmission indexed = this.submissionsByProjectName.get(projectName);
+		if (indexed == null) {
+			// not known yet (e.g., the backlog has not been loaded), ask Artemis
+			this.indexBegunSubmissions();
+			indexed = this.submissionsByProjectName.get(projectName);
+		}
+		if (indexed != null) {
+			this.submission = indexed;
+			return;
 		}
 
 		this.error("Assessed submission with projectName=\"" + projectName + "\" not found!", null);
@@ -199,6 +250,16 @@ public class GradingSystemwideController extends SystemwideController implements
 			return false;
 		}
 
+		Optional<ISubmission> prepared = this.takePreparedSubmission(correctionRound);
+		if (prepared.isPresent()) {
+			this.submission = prepared.get();
+			this.submissionsByProjectName.put(this.getProjectName(this.submission), this.submission);
+			this.activateCurrentProject();
+			this.prefetcher.refill();
+			this.notifyBuildCompleted();
+			return true;
+		}
+
 		Optional<ISubmission> optionalSubmission = this.artemisController.startNextAssessment(this.exercise, correctionRound);
 		if (optionalSubmission.isEmpty()) {
 			// revert!
@@ -206,14 +267,91 @@ public class GradingSystemwideController extends SystemwideController implements
 			return false;
 		}
 		this.submission = optionalSubmission.get();
+		this.submissionsByProjectName.put(this.getProjectName(this.submission), this.submission);
+		this.activateCurrentProject();
 
 		// perform download. Revert state if that fails.
 		if (!this.downloadExerciseAndSubmission(this.course, this.exercise, this.submission, this.projectFileNamingStrategy)) {
 			return false;
 		}
+		if (this.prefetcher != null) {
+			this.prefetcher.refill();
+		}
 		return true;
 	}
 
+	/**
+	 * Takes a submission prepared in advance. (Re-)creates the prefetcher if the
+	 * exercise, the correction round or the configured depth have changed.
+	 */
+	private Optional<ISubmission> takePreparedSubmission(int correctionRound) {
+		int depth = this.preferenceStore.getInt(PreferenceConstants.GRADING_PREFETCH_DEPTH);
+		if (this.prefetcher != null && !this.prefetcher.isFor(this.exercise, correctionRound, depth)) {
+			this.releasePreparedSubmissions(false);
+		}
+		if (depth <= 0) {
+			return Optional.empty();
+		}
+		if (this.prefetcher == null) {
+			this.prefetcher = new SubmissionPrefetcher(this.artemisController, this.exerciseController, this.projectFileNamingStrategy, this.exercise,
+					correctionRound, depth);
+		}
+		return this.prefetcher.take();
+	}
+
+	@Override
+	public void releasePreparedSubmissions(boolean wait) {
+		if (this.prefetcher != null) {
+			this.prefetcher.release(wait);
+			this.prefetcher = null;
+		}
+		if (this.backlogMaterializer != null) {
+			this.backlogMaterializer.cancel();
+			this.backlogMaterializer = null;
+		}
+	}
+
+	@Override
+	public void prepareBacklog() {
+		if (this.nullCheckMembersAndNotify(true, true, false)) {
+			return;
+		}
+		this.indexBegunSubmissions();
+		this.getBacklogMaterializer().materialize(this.exercise, this.submissionsByProjectName.values());
+	}
+
+	/**
+	 * Continues a backlog preparation of the current exercise that has been
+	 * interrupted (e.g., by closing Eclipse).
+	 */
+	private void resumeBacklogPreparation() {
+		BacklogMaterializer materializer = this.getBacklogMaterializer();
+		if (materializer.hasPending(this.exercise)) {
+			this.indexBegunSubmissions();
+			materializer.resume(this.exercise, this.submissionsByProjectName.values());
+		}
+	}
+
+	private BacklogMaterializer getBacklogMaterializer() {
+		if (this.backlogMaterializer == null) {
+			this.backlogMaterializer = new BacklogMaterializer(this.artemisController, this.exerciseController, this.projectFileNamingStrategy);
+		}
+		return this.backlogMaterializer;
+	}
+
+	/**
+	 * Reopens the project of the current submission if it has been closed for
+	 * inactivity and keeps it open while it is assessed.
+	 */
+	private void activateCurrentProject() {
+		ProjectHibernation.getInstance().touch(this.getCurrentProjectName(), this.preferenceStore);
+	}
+
+	private void notifyBuildCompleted() {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(this.getCurrentProjectName());
+		this.buildCompletedCallbacks.forEach(callback -> callback.onPhaseCompleted(project));
+	}
+
 	@Override
 	public boolean startCorrectionRound1() {
 		return this.startAssessment(0);
@@ -230,8 +368,14 @@ public class GradingSystemwideController extends SystemwideController implements
 			return;
 		}
 
-		if (this.artemisController.saveAssessment(this.getCurrentAssessmentController(), this.exercise, this.submission, true)) {
+		IAssessmentController assessmentController = this.getCurrentAssessmentController();
+		// an autosave that is still running must not arrive after the submission
+		assessmentController.stopAutosave();
+		SaveResult result = this.artemisController.saveAssessment(assessmentController, this.exercise, this.submission, true);
+		if (result == SaveResult.SAVED) {
 			this.closeAssessment();
+		} else {
+			assessmentController.resumeAutosave();
 		}
 	}
 
@@ -241,6 +385,8 @@ public class GradingSystemwideController extends SystemwideController implements
 			return;
 		}
 
+		ProjectHibernation.getInstance().forget(this.getCurrentProjectName());
+		this.getCurrentAssessmentController().stopAutosave();
 		this.getCurrentAssessmentController().deleteEclipseProject(this.projectFileNamingStrategy);
 		this.assessmentControllers.remove(this.submission.getSubmissionId());
 		this.submission = null;
@@ -279,6 +425,35 @@ public class GradingSystemwideController extends SystemwideController implements
 		return true;
 	}
 
+	/**
+	 * Reuses the project of the submission if it has already been downloaded:
+	 * resets it to the submission and builds it incrementally. A project that
+	 * cannot be reused is deleted.
+	 *
+	 * @return false if the project has to be downloaded (again)
+	 */
+	public boolean refreshExerciseAndSubmission(IExercise exercise, ISubmission submission, IProjectFileNamingStrategy projectNaming) {
+		final File eclipseWorkspaceRoot = WorkspaceUtil.getWorkspaceFile();
+		final File projectDirectory = projectNaming.getProjectFileInWorkspace(eclipseWorkspaceRoot, exercise, submission);
+		if (!projectDirectory.exists()) {
+			return false;
+		}
+
+		try {
+			this.exerciseController.refreshExerciseAndSubmission(exercise, submission, eclipseWorkspaceRoot, projectNaming);
+			if (ResourcesPlugin.getWorkspace().getRoot().getProject(projectDirectory.getName()).exists()) {
+				WorkspaceUtil.refreshEclipseProject(projectDirectory.getName(), this.buildCompletedCallbacks);
+			} else {
+				WorkspaceUtil.createEclipseProject(projectDirectory, this.buildCompletedCallbacks);
+			}
+			return true;
+		} catch (ArtemisClientException | CoreException e) {
+			log.warn("Could not reuse project " + projectDirectory.getName() + ", downloading it again: " + e.getMessage());
+			WorkspaceUtil.deleteProjectQuietly(projectDirectory);
+			return false;
+		}
+	}
+
 	@Override
 	public IGradingArtemisController getArtemisController() {
 		return this.artemisController;
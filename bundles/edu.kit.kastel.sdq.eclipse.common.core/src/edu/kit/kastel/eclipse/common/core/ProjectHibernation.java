@@ -0,0 +1,136 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
+
+/**
+ * Closes submission projects that have not been used for a while or that
+ * exceed the configured number of open projects, so JDT does not keep their
+ * models and indexes in memory. A closed project is opened again when it is
+ * {@link #touch touched}, e.g., when it is loaded from the backlog.
+ * <p>
+ * Only projects that have been touched are managed. The process-wide instance
+ * survives the recreation of the controllers.
+ */
+final class ProjectHibernation {
+	private static final ILog log = Platform.getLog(ProjectHibernation.class);
+
+	private static final long CHECK_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+	private static final ProjectHibernation INSTANCE = new ProjectHibernation();
+
+	// project name -> last use (nanos), least recently used first, guarded by this
+	private final Map<String, Long> lastUsed = new LinkedHashMap<>(16, 0.75f, true);
+	private final Job job;
+	private String active;
+	private IPreferenceStore preferenceStore;
+
+	private ProjectHibernation() {
+		this.job = Job.create("Closing inactive submission projects", this::hibernate);
+		this.job.setSystem(true);
+		this.job.setPriority(Job.DECORATE);
+	}
+
+	static ProjectHibernation getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Marks the project as the one currently assessed. It is opened if it has been
+	 * closed and is never closed while it is active.
+	 */
+	void touch(String projectName, IPreferenceStore preferenceStore) {
+		synchronized (this) {
+			this.active = projectName;
+			this.preferenceStore = preferenceStore;
+			this.lastUsed.put(projectName, System.nanoTime());
+		}
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		if (project.exists() && !project.isOpen()) {
+			try {
+				project.open(null);
+			} catch (CoreException e) {
+				log.error("Could not open project " + projectName, e);
+			}
+		}
+		if (this.isEnabled() && this.job.getState() == Job.NONE) {
+			this.job.schedule(CHECK_INTERVAL_MILLIS);
+		}
+	}
+
+	/**
+	 * Stops managing the project (e.g., because it has been deleted).
+	 */
+	synchronized void forget(String projectName) {
+		this.lastUsed.remove(projectName);
+		if (projectName.equals(this.active)) {
+			this.active = null;
+		}
+	}
+
+	private synchronized boolean isEnabled() {
+		return this.preferenceStore != null && (this.preferenceStore.getInt(PreferenceConstants.GRADING_HIBERNATE_AFTER_MINUTES) > 0
+				|| this.preferenceStore.getInt(PreferenceConstants.GRADING_MAX_OPEN_PROJECTS) > 0);
+	}
+
+	private void hibernate(IProgressMonitor monitor) {
+		for (String projectName : this.selectProjectsToClose()) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+			try {
+				project.close(monitor);
+			} catch (CoreException e) {
+				log.warn("Could not close inactive project " + projectName + ": " + e.getMessage());
+			}
+		}
+		if (this.isEnabled()) {
+			this.job.schedule(CHECK_INTERVAL_MILLIS);
+		}
+	}
+
+	private synchronized List<String> selectProjectsToClose() {
+		if (this.preferenceStore == null) {
+			return List.of();
+		}
+		long maxIdleNanos = Duration.ofMinutes(this.preferenceStore.getInt(PreferenceConstants.GRADING_HIBERNATE_AFTER_MINUTES)).toNanos();
+		int maxOpen = this.preferenceStore.getInt(PreferenceConstants.GRADING_MAX_OPEN_PROJECTS);
+		long now = System.nanoTime();
+
+		List<String> open = new ArrayList<>();
+		this.lastUsed.keySet().removeIf(projectName -> !ResourcesPlugin.getWorkspace().getRoot().getProject(projectName).exists());
+		this.lastUsed.keySet().stream().filter(projectName -> ResourcesPlugin.getWorkspace().getRoot().getProject(projectName).isOpen())
+				.forEach(open::add);
+
+		// least recently used first
+		List<String> toClose = new ArrayList<>();
+		int remaining = open.size();
+		for (String projectName : open) {
+			if (projectName.equals(this.active)) {
+				continue;
+			}
+			boolean idle = maxIdleNanos > 0 && now - this.lastUsed.get(projectName) > maxIdleNanos;
+			boolean tooMany = maxOpen > 0 && remaining > maxOpen;
+			if (idle || tooMany) {
+				toClose.add(projectName);
+				remaining--;
+			}
+		}
+		return toClose;
+	}
+}
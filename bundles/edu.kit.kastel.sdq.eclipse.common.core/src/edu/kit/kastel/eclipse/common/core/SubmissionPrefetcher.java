@@ -0,0 +1,302 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+
+import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
+import edu.kit.kastel.eclipse.common.api.artemis.IProjectFileNamingStrategy;
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
+import edu.kit.kastel.eclipse.common.api.controller.IExerciseArtemisController;
+import edu.kit.kastel.eclipse.common.api.controller.IGradingArtemisController;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
+
+/**
+ * Prepares the next submissions of one exercise and correction round in the
+ * background while the tutor is still grading. A prepared submission is
+ * locked, downloaded and imported as a built project, so starting the next
+ * assessment only has to {@link #take()} it. Submissions that are not taken
+ * are unlocked and deleted by {@link #release()}.
+ */
+final class SubmissionPrefetcher {
+	private static final ILog log = Platform.getLog(SubmissionPrefetcher.class);
+
+	// an import that takes longer than this is assumed to be stuck
+	private static final long BUILD_TIMEOUT_MINUTES = 10;
+	// how long releasing or claiming waits for the submission that is currently
+	// prepared
+	private static final long RELEASE_TIMEOUT_MILLIS = 10_000;
+
+	private final IGradingArtemisController artemisController;
+	private final IExerciseArtemisController exerciseController;
+	private final IProjectFileNamingStrategy namingStrategy;
+	private final IExercise exercise;
+	private final int correctionRound;
+	private final int depth;
+	private final Job fillJob;
+
+	// all locked submissions that have not been taken (yet), guarded by this
+	private final List<ISubmission> locked = new ArrayList<>();
+	// the subset of the locked submissions that is ready to be assessed
+	private final Deque<ISubmission> prepared = new ArrayDeque<>();
+	// the locked submission that is currently downloaded and imported
+	private ISubmission preparing;
+	private boolean exhausted;
+	private boolean released;
+
+	SubmissionPrefetcher(IGradingArtemisController artemisController, IExerciseArtemisController exerciseController,
+			IProjectFileNamingStrategy namingStrategy, IExercise exercise, int correctionRound, int depth) {
+		this.artemisController = artemisController;
+		this.exerciseController = exerciseController;
+		this.namingStrategy = namingStrategy;
+		this.exercise = exercise;
+		this.correctionRound = correctionRound;
+		this.depth = depth;
+		this.fillJob = Job.create("Preparing next submissions", this::fill);
+	}
+
+	boolean isFor(IExercise exercise, int correctionRound, int depth) {
+		return this.exercise.getExerciseId() == exercise.getExerciseId() && this.correctionRound == correctionRound && this.depth == depth;
+	}
+
+	/**
+	 * Starts preparing submissions in the background until {@code depth}
+	 * submissions are locked.
+	 */
+	void refill() {
+		if (this.needsMore()) {
+			this.fillJob.schedule();
+		}
+	}
+
+	/**
+	 * @return the next prepared submission. Its lock belongs to the caller from
+	 *         now on.
+	 */
+	synchronized Optional<ISubmission> take() {
+		ISubmission submission = this.prepared.poll();
+		if (submission != null) {
+			this.locked.remove(submission);
+		}
+		return Optional.ofNullable(submission);
+	}
+
+	/**
+	 * Takes the given submission (e.g., if it has been selected in the backlog)
+	 * whether it is prepared or not. If it is still being prepared, that is
+	 * stopped first, so the caller can load it without racing the download or the
+	 * import.
+	 *
+	 * @return whether the submission had been prepared completely
+	 */
+	boolean claim(ISubmission submission) {
+		synchronized (this) {
+			this.locked.removeIf(lockedSubmission -> lockedSubmission.getSubmissionId() == submission.getSubmissionId());
+			if (this.prepared.removeIf(preparedSubmission -> preparedSubmission.getSubmissionId() == submission.getSubmissionId())) {
+				return true;
+			}
+			if (this.preparing == null || this.preparing.getSubmissionId() != submission.getSubmissionId()) {
+				return false;
+			}
+		}
+		// canceling deletes what has been prepared so far, the lock is kept
+		this.fillJob.cancel();
+		this.awaitFillJob();
+		return false;
+	}
+
+	/**
+	 * Stops preparing submissions. Releases the locks of all submissions that have
+	 * not been taken and deletes their projects.
+	 *
+	 * @param wait whether to release them before returning (e.g., when the
+	 *             workbench shuts down and jobs may not run anymore) instead of in
+	 *             the background
+	 */
+	void release(boolean wait) {
+		synchronized (this) {
+			this.released = true;
+		}
+		this.fillJob.cancel();
+		if (wait) {
+			this.releaseUnused();
+		} else {
+			Job.create("Releasing prepared submissions", monitor -> {
+				this.releaseUnused();
+			}).schedule();
+		}
+	}
+
+	private void releaseUnused() {
+		// the submission that is still being prepared (if any) is released below, too
+		this.awaitFillJob();
+		List<ISubmission> unused;
+		synchronized (this) {
+			unused = new ArrayList<>(this.locked);
+			this.locked.clear();
+			this.prepared.clear();
+		}
+		unused.forEach(this::unlockAndDelete);
+	}
+
+	private void awaitFillJob() {
+		try {
+			if (!this.fillJob.join(RELEASE_TIMEOUT_MILLIS, null)) {
+				log.warn("Preparing the next submission did not stop in time");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private synchronized boolean needsMore() {
+		return !this.released && !this.exhausted && this.locked.size() < this.depth;
+	}
+
+	private void fill(IProgressMonitor monitor) {
+		while (!monitor.isCanceled() && this.needsMore()) {
+			Optional<ISubmission> next;
+			try {
+				next = this.artemisController.lockNextAssessment(this.exercise, this.correctionRound);
+			} catch (ArtemisClientException e) {
+				log.warn("Could not lock the next submission in advance: " + e.getMessage());
+				return;
+			}
+
+			if (next.isEmpty()) {
+				synchronized (this) {
+					this.exhausted = true;
+				}
+				return;
+			}
+
+			ISubmission submission = next.get();
+			if (!this.register(submission)) {
+				// released in the meantime
+				this.unlockAndDelete(submission);
+				return;
+			}
+			boolean materialized;
+			try {
+				materialized = this.materialize(submission, monitor);
+			} finally {
+				synchronized (this) {
+					this.preparing = null;
+				}
+			}
+			if (!materialized) {
+				if (this.unregister(submission)) {
+					// not released in the meantime
+					this.unlock(submission);
+				}
+				return;
+			}
+			synchronized (this) {
+				// not claimed from the backlog in the meantime
+				if (this.locked.contains(submission)) {
+					this.prepared.add(submission);
+				}
+			}
+		}
+	}
+
+	private synchronized boolean register(ISubmission submission) {
+		if (this.released) {
+			return false;
+		}
+		this.locked.add(submission);
+		this.preparing = submission;
+		return true;
+	}
+
+	private synchronized boolean unregister(ISubmission submission) {
+		this.prepared.remove(submission);
+		return this.locked.remove(submission);
+	}
+
+	/**
+	 * Downloads the submission and imports it as project. Returns once the
+	 * project has been built.
+	 */
+	private boolean materialize(ISubmission submission, IProgressMonitor monitor) {
+		File workspace = WorkspaceUtil.getWorkspaceFile();
+		File projectDirectory = this.namingStrategy.getProjectFileInWorkspace(workspace, this.exercise, submission);
+		if (projectDirectory.exists()) {
+			log.warn("Not preparing " + projectDirectory.getName() + " in advance, the workspace already contains a project with that name");
+			return false;
+		}
+
+		try {
+			this.exerciseController.downloadExerciseAndSubmission(this.exercise, submission, workspace, this.namingStrategy, monitor);
+			CompletableFuture<Void> built = new CompletableFuture<>();
+			WorkspaceUtil.createEclipseProject(projectDirectory, List.of(project -> built.complete(null)));
+			if (!awaitBuild(built, monitor)) {
+				log.warn("Could not prepare " + projectDirectory.getName() + " in advance: it has not been built in time");
+				this.delete(submission);
+				return false;
+			}
+			return true;
+		} catch (ArtemisClientException | CoreException e) {
+			log.warn("Could not prepare " + projectDirectory.getName() + " in advance: " + e.getMessage());
+			this.delete(submission);
+			return false;
+		}
+	}
+
+	/**
+	 * Waits until the build callback has been called, at most
+	 * {@value #BUILD_TIMEOUT_MINUTES} minutes.
+	 *
+	 * @return false if the build did not complete in time or the monitor has been
+	 *         canceled
+	 */
+	static boolean awaitBuild(CompletableFuture<?> built, IProgressMonitor monitor) {
+		long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(BUILD_TIMEOUT_MINUTES);
+		while (System.nanoTime() - deadline < 0 && !monitor.isCanceled()) {
+			try {
+				built.get(1, TimeUnit.SECONDS);
+				return true;
+			} catch (TimeoutException e) {
+				// check the monitor again
+			} catch (ExecutionException e) {
+				return false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private void unlockAndDelete(ISubmission submission) {
+		this.unlock(submission);
+		this.delete(submission);
+	}
+
+	private void unlock(ISubmission submission) {
+		try {
+			this.artemisController.cancelAssessment(submission);
+		} catch (ArtemisClientException e) {
+			log.error("Could not release the lock of submission " + submission.getSubmissionId(), e);
+		}
+	}
+
+	private void delete(ISubmission submission) {
+		WorkspaceUtil.deleteProjectQuietly(this.namingStrategy.getProjectFileInWorkspace(WorkspaceUtil.getWorkspaceFile(), this.exercise, submission));
+	}
+}
@@ -0,0 +1,139 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jgit.lib.ProgressMonitor;
+
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
+import edu.kit.kastel.eclipse.common.client.git.CloneOptions;
+import edu.kit.kastel.eclipse.common.client.git.GitCredentials;
+import edu.kit.kastel.eclipse.common.client.git.GitException;
+import edu.kit.kastel.eclipse.common.client.git.GitHandler;
+import edu.kit.kastel.eclipse.common.core.artemis.StateLocation;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
+
+/**
+ * Local mirrors of the test repositories, one per exercise. They live in the
+ * state location of this bundle (outside the workspace). The test repository
+ * of a submission project is cloned from the mirror, so Artemis only has to
+ * serve one clone per exercise and an occasional incremental fetch.
+ */
+final class TestRepositoryMirrors {
+	private static final ILog log = Platform.getLog(TestRepositoryMirrors.class);
+
+	private static final String MIRROR_DIRECTORY = "test-repositories";
+	private static final long FETCH_INTERVAL_NANOS = Duration.ofMinutes(5).toNanos();
+
+	// a mirror directory must only be used by one instance
+	private static TestRepositoryMirrors instance;
+	private static boolean initialized;
+
+	private final File directory;
+	private final Map<Integer, Mirror> mirrors = new ConcurrentHashMap<>();
+
+	private TestRepositoryMirrors(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return the process-wide mirrors or null if there is no state location
+	 *         (e.g., the platform is not running)
+	 */
+	static synchronized TestRepositoryMirrors getInstance() {
+		if (!initialized) {
+			instance = createInStateLocation();
+			initialized = true;
+		}
+		return instance;
+	}
+
+	private static TestRepositoryMirrors createInStateLocation() {
+		Path directory = StateLocation.resolve(MIRROR_DIRECTORY);
+		if (directory == null) {
+			log.warn("No state location for test repository mirrors available, test repositories will be cloned from Artemis");
+			return null;
+		}
+		return new TestRepositoryMirrors(directory.toFile());
+	}
+
+	/**
+	 * Clones the test repository of the exercise into the destination. Uses the
+	 * mirror of the exercise and falls back to cloning from Artemis if the mirror
+	 * cannot be used.
+	 */
+	static void cloneTestRepository(IExercise exercise, File destination, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+		TestRepositoryMirrors mirrors = getInstance();
+		if (mirrors != null) {
+			try {
+				mirrors.mirrorOf(exercise).cloneInto(destination, exercise.getTestRepositoryUrl(), credentials, progress);
+				return;
+			} catch (GitException e) {
+				log.warn("Could not use the mirror of the test repository of " + exercise.getShortName() + ": " + e.getMessage());
+				deleteQuietly(destination);
+			}
+		}
+		GitHandler.cloneRepo(destination, exercise.getTestRepositoryUrl(), credentials, CloneOptions.LATEST, progress);
+	}
+
+	private Mirror mirrorOf(IExercise exercise) {
+		return this.mirrors.computeIfAbsent(exercise.getExerciseId(), id -> new Mirror(new File(this.directory, String.valueOf(id))));
+	}
+
+	private static void deleteQuietly(File directory) {
+		if (!directory.exists()) {
+			return;
+		}
+		try {
+			WorkspaceUtil.deleteDirectoryRecursively(directory.toPath());
+		} catch (IOException e) {
+			log.error("Could not delete " + directory, e);
+		}
+	}
+
+	private static final class Mirror {
+		private final File directory;
+		// whether (and when) the mirror has been updated in this session
+		private boolean fetched;
+		private long fetchedAt;
+
+		private Mirror(File directory) {
+			this.directory = directory;
+		}
+
+		/**
+		 * Updates the mirror if needed and clones it. Locked per exercise, so the
+		 * mirror is never read while it is being updated.
+		 */
+		synchronized void cloneInto(File destination, String repoURL, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+			this.update(repoURL, credentials, progress);
+			GitHandler.cloneRepo(destination, this.directory.getAbsolutePath(), null, CloneOptions.FULL, progress);
+			GitHandler.setRemoteUrl(destination, repoURL);
+		}
+
+		private void update(String repoURL, GitCredentials credentials, ProgressMonitor progress) throws GitException {
+			if (this.directory.exists() && !GitHandler.hasRemoteUrl(this.directory, repoURL)) {
+				// the exercise id belongs to another Artemis instance or repository
+				deleteQuietly(this.directory);
+				this.fetched = false;
+			}
+
+			if (!this.directory.exists()) {
+				GitHandler.mirrorRepo(this.directory, repoURL, credentials, progress);
+			} else if (!this.fetched || System.nanoTime() - this.fetchedAt > FETCH_INTERVAL_NANOS) {
+				GitHandler.fetchRepo(this.directory, credentials, progress);
+			} else {
+				return;
+			}
+			this.fetched = true;
+			this.fetchedAt = System.nanoTime();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
+import edu.kit.kastel.eclipse.common.core.model.annotation.Annotation;
+
+/**
+ * The compact encoding of the annotations stored in the CLIENT_DATA feedbacks:
+ * {@code v2:} followed by the base64 encoded, deflated JSON array of the
+ * annotations. Each annotation is an array of its fields (id, mistake type id,
+ * file, start line, end line, custom message, custom penalty) instead of an
+ * object, the repeated file paths are compressed by deflate.
+ */
+final class AnnotationCodec {
+	private static final String PREFIX = "v2:";
+
+	private static final int ID = 0;
+	private static final int MISTAKE_TYPE = 1;
+	private static final int FILE = 2;
+	private static final int START_LINE = 3;
+	private static final int END_LINE = 4;
+	private static final int CUSTOM_MESSAGE = 5;
+	private static final int CUSTOM_PENALTY = 6;
+
+	private static final ObjectMapper oom = new ObjectMapper();
+
+	private AnnotationCodec() {
+		throw new IllegalAccessError();
+	}
+
+	static boolean isCompact(String detailText) {
+		return detailText != null && detailText.startsWith(PREFIX);
+	}
+
+	/**
+	 * Encodes the annotations into as few chunks as possible. Each chunk is shorter
+	 * than the given number of characters and can be decoded on its own.
+	 */
+	static List<String> encode(List<IAnnotation> annotations, int maxCharacters) throws IOException {
+		// each annotation is serialized once, only the (cheap) compression is repeated
+		List<String> elements = new ArrayList<>(annotations.size());
+		for (IAnnotation annotation : annotations) {
+			elements.add(oom.writeValueAsString(toArray(annotation)));
+		}
+
+		List<String> chunks = new ArrayList<>();
+		int start = 0;
+		while (start < elements.size()) {
+			String single = encodeChunk(elements, start, start + 1);
+			if (single.length() >= maxCharacters) {
+				throw new IOException("This annotation is too large to serialize! " + elements.get(start));
+			}
+
+			// largest end (exclusive) that fits: grow exponentially, then bisect
+			int fits = start + 1;
+			String fitting = single;
+			int tooLarge = -1;
+			for (int step = 1; tooLarge < 0 && fits < elements.size(); step *= 2) {
+				int end = Math.min(fits + step, elements.size());
+				String candidate = encodeChunk(elements, start, end);
+				if (candidate.length() < maxCharacters) {
+					fits = end;
+					fitting = candidate;
+				} else {
+					tooLarge = end;
+				}
+			}
+			while (tooLarge > fits + 1) {
+				int end = (fits + tooLarge) >>> 1;
+				String candidate = encodeChunk(elements, start, end);
+				if (candidate.length() < maxCharacters) {
+					fits = end;
+					fitting = candidate;
+				} else {
+					tooLarge = end;
+				}
+			}
+			chunks.add(fitting);
+			start = fits;
+		}
+		if (chunks.isEmpty()) {
+			chunks.add(encodeChunk(elements, 0, 0));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Decodes a chunk created by {@link #encode}.
+	 */
+	static List<Annotation> decode(String detailText) throws IOException {
+		byte[] compressed;
+		try {
+			compressed = Base64.getDecoder().decode(detailText.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new IOException("Annotations are not base64 encoded: " + e.getMessage(), e);
+		}
+
+		List<Annotation> annotations = new ArrayList<>();
+		for (JsonNode element : oom.readTree(inflate(compressed))) {
+			annotations.add(new Annotation(element.get(ID).asText(), element.get(START_LINE).asInt(), element.get(END_LINE).asInt(),
+					element.get(FILE).asText(), textOrNull(element.get(CUSTOM_MESSAGE)), doubleOrNull(element.get(CUSTOM_PENALTY)),
+					element.get(MISTAKE_TYPE).asText()));
+		}
+		return annotations;
+	}
+
+	private static ArrayNode toArray(IAnnotation annotation) {
+		ArrayNode array = oom.createArrayNode();
+		array.add(annotation.getUUID());
+		array.add(annotation.getMistakeType().getIdentifier());
+		array.add(annotation.getClassFilePath());
+		array.add(annotation.getStartLine());
+		array.add(annotation.getEndLine());
+		array.add(annotation.getCustomMessage().orElse(null));
+		array.add(annotation.getCustomPenalty().orElse(null));
+		return array;
+	}
+
+	private static String encodeChunk(List<String> elements, int start, int end) {
+		String json = "[" + String.join(",", elements.subList(start, end)) + "]";
+		return PREFIX + Base64.getEncoder().encodeToString(deflate(json.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static byte[] deflate(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] data) throws IOException {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+			byte[] buffer = new byte[4096];
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(buffer);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("Annotations are truncated");
+				}
+				out.write(buffer, 0, inflated);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IOException("Annotations are not deflated: " + e.getMessage(), e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static String textOrNull(JsonNode node) {
+		return node == null || node.isNull() ? null : node.asText();
+	}
+
+	private static Double doubleOrNull(JsonNode node) {
+		return node == null || node.isNull() ? null : node.asDouble();
+	}
+}
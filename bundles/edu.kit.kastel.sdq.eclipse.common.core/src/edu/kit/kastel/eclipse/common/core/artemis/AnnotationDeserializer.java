@@ -10,7 +10,6 @@ import java.util.Map;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -23,7 +22,8 @@ import edu.kit.kastel.eclipse.common.core.model.annotation.Annotation;
  * Deserialize Annotation from a Feedback of
  * <li>type: MANUAL_UNREFERENCED
  * <li>text: CLIENT_DATA
- * <li>detailText: $THE_JSON_BLOB
+ * <li>detailText: $THE_JSON_BLOB (plain or in the compact encoding of
+ * {@link AnnotationCodec})
  *
  */
 public class AnnotationDeserializer {
@@ -67,10 +67,15 @@ public class AnnotationDeserializer {
 		List<Annotation> annotations = new ArrayList<>();
 		for (var feedback : feedbacksWithAnnotationInformation) {
 			try {
+				if (AnnotationCodec.isCompact(feedback.getDetailText())) {
+					annotations.addAll(AnnotationCodec.decode(feedback.getDetailText()));
+					continue;
+				}
+				// plain json, written by older versions
 				List<Annotation> annotationsInFeedback = oom.readValue(feedback.getDetailText(), new TypeReference<List<Annotation>>() {
 				});
 				annotations.addAll(annotationsInFeedback);
-			} catch (JsonProcessingException e) {
+			} catch (IOException e) {
 				log.error(e.getMessage(), e);
 			}
 		}
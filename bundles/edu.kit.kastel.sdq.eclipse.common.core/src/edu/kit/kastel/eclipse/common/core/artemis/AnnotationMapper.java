@@ -12,14 +12,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.eclipse.core.runtime.ILog;
-import org.eclipse.core.runtime.Platform;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import edu.kit.kastel.eclipse.common.api.artemis.AssessmentResult;
 import edu.kit.kastel.eclipse.common.api.artemis.ILockResult;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.Feedback;
@@ -27,6 +22,7 @@ import edu.kit.kastel.eclipse.common.api.artemis.mapping.FeedbackType;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.ISubmission;
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.User;
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
@@ -44,14 +40,12 @@ public class AnnotationMapper {
 
 	private static final NumberFormat nf = new DecimalFormat("##.###", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-	private static final ILog log = Platform.getLog(AnnotationMapper.class);
-
-	private final ObjectMapper oom = new ObjectMapper();
-
 	private final IExercise exercise;
 	private final ISubmission submission;
 
 	private final List<IAnnotation> annotations;
+	// grouped lazily, only needed for the points
+	private Map<IMistakeType, List<IAnnotation>> annotationsByMistakeType;
 
 	private final List<IRatingGroup> ratingGroups;
 	private final User assessor;
@@ -81,24 +75,15 @@ public class AnnotationMapper {
 		return result;
 	}
 
+	/**
+	 * Packs the annotations greedily into as few feedbacks as possible, see
+	 * {@link AnnotationCodec}.
+	 */
 	private List<Feedback> calculateAnnotationSerialisationAsFeedbacks(List<IAnnotation> givenAnnotations, int detailTextMaxCharacters) throws IOException {
-		final String givenAnnotationsJSONString = this.convertAnnotationsToJSONString(givenAnnotations);
-		// put as many feedbacks in one pack.
-		if (givenAnnotationsJSONString.length() < detailTextMaxCharacters) {
-			// we don't want the serialization to be visible (for non-privileged users)
-			return List.of(new Feedback(FeedbackType.MANUAL_UNREFERENCED.name(), 0D, null, null, "NEVER", "CLIENT_DATA", null, givenAnnotationsJSONString));
+		final List<Feedback> resultFeedbacks = new ArrayList<>();
+		for (String chunk : AnnotationCodec.encode(givenAnnotations, detailTextMaxCharacters)) {
+			resultFeedbacks.add(this.createClientDataFeedback(chunk));
 		}
-		// if one single annotation is too large, serialization is impossible!
-		if (givenAnnotations.size() == 1) {
-			throw new IOException("This annotation is too large to serialize! " + givenAnnotationsJSONString);
-		}
-
-		// recursion
-		final int givenAnnotationsSize = givenAnnotations.size();
-		final List<Feedback> resultFeedbacks = new ArrayList<>(
-				this.calculateAnnotationSerialisationAsFeedbacks(givenAnnotations.subList(0, givenAnnotationsSize / 2), detailTextMaxCharacters));
-		resultFeedbacks.addAll(this.calculateAnnotationSerialisationAsFeedbacks(givenAnnotations.subList(givenAnnotationsSize / 2, givenAnnotations.size()),
-				detailTextMaxCharacters));
 		return resultFeedbacks;
 	}
 
@@ -108,6 +93,11 @@ public class AnnotationMapper {
 		return this.calculateAnnotationSerialisationAsFeedbacks(new ArrayList<>(this.annotations), FEEDBACK_DETAIL_TEXT_MAX_CHARACTERS);
 	}
 
+	private Feedback createClientDataFeedback(String annotationsJSONString) {
+		// we don't want the serialization to be visible (for non-privileged users)
+		return new Feedback(FeedbackType.MANUAL_UNREFERENCED.name(), 0D, null, null, "NEVER", "CLIENT_DATA", null, annotationsJSONString);
+	}
+
 	private List<Feedback> calculateManualFeedbacks() {
 		List<Feedback> manualFeedbacks = new ArrayList<>(this.annotations.stream().collect(Collectors.groupingBy(IAnnotation::getStartLine)).entrySet().stream()
 				.map(this::createInlineFeedbackWithNoDeduction).toList());
@@ -120,10 +110,6 @@ public class AnnotationMapper {
 		return absoluteScore / this.exercise.getMaxPoints() * 100D;
 	}
 
-	private String convertAnnotationsToJSONString(final List<IAnnotation> givenAnnotations) throws JsonProcessingException {
-		return oom.writeValueAsString(givenAnnotations);
-	}
-
 	/**
 	 * This transforms Annotations (in the context of the whole model, consisting of
 	 * RatingGroupse, MistakteTypes etc) into a payload. In the process, calculation
@@ -223,9 +209,7 @@ public class AnnotationMapper {
 			final var mistakeType = mistakeTypeXScore.getKey();
 			final double currentPenalty = mistakeTypeXScore.getValue();
 
-			final List<IAnnotation> currentAnnotations = this.annotations.stream() //
-					.filter(annotation -> annotation.getMistakeType().equals(mistakeType)) //
-					.toList();
+			final List<IAnnotation> currentAnnotations = this.getAnnotationsOfMistakeType(mistakeType);
 			lines.add("\n    * \"" + mistakeType.getButtonText(null) + "\" [" + nf.format(currentPenalty) + "P]:");
 			if (mistakeType.isCustomPenalty()) {
 				for (var annotation : currentAnnotations) {
@@ -283,40 +267,50 @@ public class AnnotationMapper {
 	}
 
 	public PointResult calculatePointsForRatingGroup(IRatingGroup ratingGroup) {
+		return calculatePointsForRatingGroup(ratingGroup, mistakeType -> AnnotationAggregate.of(this.getAnnotationsOfMistakeType(mistakeType)),
+				this::getAnnotationsOfMistakeType);
+	}
+
+	private List<IAnnotation> getAnnotationsOfMistakeType(IMistakeType mistakeType) {
+		if (this.annotationsByMistakeType == null) {
+			this.annotationsByMistakeType = this.annotations.stream().collect(Collectors.groupingBy(IAnnotation::getMistakeType));
+		}
+		return this.annotationsByMistakeType.getOrDefault(mistakeType, List.of());
+	}
+
+	/**
+	 * Calculates the points of a rating group from the points of its mistake types.
+	 *
+	 * @param aggregateOfMistakeType   provides the aggregate of the annotations of
+	 *                                 a mistake type
+	 * @param annotationsOfMistakeType provides all annotations of a mistake type,
+	 *                                 only used if its penalty rule does not
+	 *                                 {@link IMistakeType#supportsAggregate()
+	 *                                 support aggregates}
+	 */
+	static PointResult calculatePointsForRatingGroup(IRatingGroup ratingGroup, Function<IMistakeType, AnnotationAggregate> aggregateOfMistakeType,
+			Function<IMistakeType, List<IAnnotation>> annotationsOfMistakeType) {
 		// Calculate the points w.r.t. the PenaltyTypes
-		log.info("Calculate Points for RG " + ratingGroup.getDisplayName(null));
 		double sum = 0;
 		Map<IMistakeType, Double> scores = new HashMap<>();
 		for (var mistakeType : ratingGroup.getMistakeTypes()) {
-			Double score = calculatePointsForMistakeType(mistakeType);
-			if (score == null) {
+			AnnotationAggregate aggregate = aggregateOfMistakeType.apply(mistakeType);
+			if (aggregate.isEmpty()) {
 				// No annotation made.
 				continue;
 			}
+			double score = mistakeType.supportsAggregate() ? mistakeType.calculate(aggregate) : mistakeType.calculate(annotationsOfMistakeType.apply(mistakeType));
 			scores.put(mistakeType, score);
 			sum += score;
 		}
 
 		boolean reachedLimit = !ratingGroup.getRange().isEmpty() && ratingGroup.setToRange(sum) != sum;
 		if (reachedLimit) {
-			log.info("RG " + ratingGroup.getDisplayName(null) + " reached limit");
 			sum = ratingGroup.setToRange(sum);
 		}
 		return new PointResult(sum, reachedLimit, scores);
 	}
 
-	private Double calculatePointsForMistakeType(IMistakeType mistakeType) {
-		log.info("Calculate Points for MT " + mistakeType.getButtonText(null));
-		var filteredAnnotations = this.annotations.stream().filter(a -> a.getMistakeType().equals(mistakeType)).toList();
-		if (filteredAnnotations.isEmpty()) {
-			return null;
-		}
-
-		var points = mistakeType.calculate(filteredAnnotations);
-		log.info("MT " + mistakeType.getButtonText(null) + " -> " + points);
-		return points;
-	}
-
 	public record PointResult(double points, boolean reachedLimit, Map<IMistakeType, Double> scores) {
 	}
 
@@ -0,0 +1,128 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+
+/**
+ * Remembers the {@code pom.xml} files (by the hash of their content) whose
+ * dependencies have already been resolved successfully. All submissions of an
+ * exercise share the pom of the test repository, so after the first import all
+ * dependencies are in the local Maven repository and m2e can import the
+ * following projects offline.
+ * <p>
+ * The hashes are stored in the state location of this bundle.
+ */
+@SuppressWarnings("restriction")
+final class MavenImportCache {
+	private static final ILog log = Platform.getLog(MavenImportCache.class);
+
+	private static final String CACHE_FILE = "resolved-poms.txt";
+	private static final String POM = "pom.xml";
+
+	private static MavenImportCache instance;
+
+	private final Path file;
+	private final Set<String> resolved;
+
+	private MavenImportCache(Path file) {
+		this.file = file;
+		this.resolved = read(file);
+	}
+
+	static synchronized MavenImportCache getInstance() {
+		if (instance == null) {
+			instance = new MavenImportCache(stateFile());
+		}
+		return instance;
+	}
+
+	/**
+	 * @return the hash of the pom of the project or null if it has none
+	 */
+	static String hashPom(IProject project) {
+		IPath pom = project.getFile(POM).getLocation();
+		if (pom == null || !pom.toFile().isFile()) {
+			return null;
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(pom.toFile().toPath()));
+			return HexFormat.of().formatHex(digest);
+		} catch (IOException | NoSuchAlgorithmException e) {
+			log.warn("Could not hash " + pom + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * @return whether the project has been imported without Maven errors
+	 */
+	static boolean isResolved(IProject project) {
+		try {
+			return project.isOpen() && project.findMaxProblemSeverity(IMavenConstants.MARKER_ID, true, IResource.DEPTH_INFINITE) < IMarker.SEVERITY_ERROR;
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
+	synchronized boolean contains(String pomHash) {
+		return pomHash != null && this.resolved.contains(pomHash);
+	}
+
+	synchronized void add(String pomHash) {
+		if (pomHash != null && this.resolved.add(pomHash)) {
+			this.write();
+		}
+	}
+
+	synchronized void remove(String pomHash) {
+		if (pomHash != null && this.resolved.remove(pomHash)) {
+			this.write();
+		}
+	}
+
+	private void write() {
+		if (this.file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(this.file.getParent());
+			Files.write(this.file, this.resolved);
+		} catch (IOException e) {
+			log.warn("Could not store the resolved poms: " + e.getMessage());
+		}
+	}
+
+	private static Set<String> read(Path file) {
+		Set<String> hashes = new LinkedHashSet<>();
+		if (file == null || !Files.exists(file)) {
+			return hashes;
+		}
+		try {
+			Files.readAllLines(file).stream().map(String::strip).filter(line -> !line.isEmpty()).forEach(hashes::add);
+		} catch (IOException e) {
+			log.warn("Could not read the resolved poms: " + e.getMessage());
+		}
+		return hashes;
+	}
+
+	private static Path stateFile() {
+		// null without a state location, then only cached in memory
+		return StateLocation.resolve(CACHE_FILE);
+	}
+}
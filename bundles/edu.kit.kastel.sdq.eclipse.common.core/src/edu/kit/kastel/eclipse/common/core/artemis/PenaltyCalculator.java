@@ -0,0 +1,90 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import edu.kit.kastel.eclipse.common.api.controller.IPenaltyListener;
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
+import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
+import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
+import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
+import edu.kit.kastel.eclipse.common.core.artemis.AnnotationMapper.PointResult;
+
+/**
+ * Caches the points of the rating groups of an assessment. A change of the
+ * annotations of a mistake type only invalidates its rating group, which is
+ * recalculated on the next read.
+ */
+public final class PenaltyCalculator {
+	private final Function<IMistakeType, AnnotationAggregate> aggregateOfMistakeType;
+	private final Function<IMistakeType, List<IAnnotation>> annotationsOfMistakeType;
+	private final Map<IRatingGroup, PointResult> points = new HashMap<>();
+	private final List<IPenaltyListener> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * @param aggregateOfMistakeType   provides the current aggregate of the
+	 *                                 annotations of a mistake type
+	 * @param annotationsOfMistakeType provides the current annotations of a
+	 *                                 mistake type, only used for penalty rules
+	 *                                 that do not support aggregates
+	 */
+	public PenaltyCalculator(Function<IMistakeType, AnnotationAggregate> aggregateOfMistakeType,
+			Function<IMistakeType, List<IAnnotation>> annotationsOfMistakeType) {
+		this.aggregateOfMistakeType = aggregateOfMistakeType;
+		this.annotationsOfMistakeType = annotationsOfMistakeType;
+	}
+
+	public synchronized PointResult getPoints(IRatingGroup ratingGroup) {
+		return this.points.computeIfAbsent(ratingGroup,
+				group -> AnnotationMapper.calculatePointsForRatingGroup(group, this.aggregateOfMistakeType, this.annotationsOfMistakeType));
+	}
+
+	/**
+	 * Has to be called whenever an annotation of the mistake type has been added,
+	 * modified or removed.
+	 */
+	public void invalidate(IMistakeType mistakeType) {
+		IRatingGroup ratingGroup = mistakeType.getRatingGroup();
+		if (ratingGroup == null) {
+			return;
+		}
+		synchronized (this) {
+			this.points.remove(ratingGroup);
+		}
+		this.notifyListeners(Set.of(ratingGroup));
+	}
+
+	/**
+	 * Has to be called if all annotations have been replaced.
+	 */
+	public void invalidateAll(List<IRatingGroup> ratingGroups) {
+		synchronized (this) {
+			this.points.clear();
+		}
+		this.notifyListeners(Set.copyOf(ratingGroups));
+	}
+
+	/**
+	 * Adds the listener unless it has already been added.
+	 */
+	public void addListener(IPenaltyListener listener) {
+		if (!this.listeners.contains(listener)) {
+			this.listeners.add(listener);
+		}
+	}
+
+	public void removeListener(IPenaltyListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	private void notifyListeners(Set<IRatingGroup> ratingGroups) {
+		if (!ratingGroups.isEmpty()) {
+			this.listeners.forEach(listener -> listener.onPenaltiesChanged(ratingGroups));
+		}
+	}
+}
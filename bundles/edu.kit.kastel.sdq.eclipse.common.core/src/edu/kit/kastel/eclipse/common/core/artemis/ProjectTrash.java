@@ -0,0 +1,86 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Deletes project directories in the background. A directory is renamed into
+ * the trash (in the state location of this bundle, which is usually on the same
+ * file system as the workspace) and the trash is purged by a low priority job.
+ * Leftovers of an interrupted purge are removed by the next one.
+ */
+final class ProjectTrash {
+	private static final ILog log = Platform.getLog(ProjectTrash.class);
+
+	private static final String TRASH_DIRECTORY = "trash";
+
+	private static final Job PURGE_JOB = Job.create("Deleting closed submission projects", monitor -> {
+		Path trash = trashDirectory();
+		if (trash == null || !Files.isDirectory(trash)) {
+			return;
+		}
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(trash)) {
+			for (Path entry : entries) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				try {
+					WorkspaceUtil.deleteDirectoryRecursively(entry);
+				} catch (IOException e) {
+					log.warn("Could not delete " + entry + ", retrying later: " + e.getMessage());
+				}
+			}
+		} catch (IOException e) {
+			log.warn("Could not list the trash: " + e.getMessage());
+		}
+	});
+
+	static {
+		PURGE_JOB.setPriority(Job.DECORATE);
+		PURGE_JOB.setSystem(true);
+	}
+
+	private ProjectTrash() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * Moves the directory into the trash and schedules its deletion. Deletes the
+	 * directory directly if it cannot be moved.
+	 */
+	static void delete(Path directory) throws IOException {
+		Path trash = trashDirectory();
+		if (trash != null) {
+			try {
+				Files.createDirectories(trash);
+				Files.move(directory, trash.resolve(directory.getFileName() + "-" + UUID.randomUUID()), StandardCopyOption.ATOMIC_MOVE);
+				purge();
+				return;
+			} catch (IOException e) {
+				log.warn("Could not move " + directory + " to the trash, deleting it directly: " + e.getMessage());
+			}
+		}
+		WorkspaceUtil.deleteDirectoryRecursively(directory);
+	}
+
+	/**
+	 * Schedules the deletion of everything in the trash.
+	 */
+	static void purge() {
+		// a running purge may have listed the trash already
+		PURGE_JOB.schedule(PURGE_JOB.getState() == Job.RUNNING ? 1000 : 0);
+	}
+
+	private static Path trashDirectory() {
+		return StateLocation.resolve(TRASH_DIRECTORY);
+	}
+}
@@ -0,0 +1,34 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.artemis;
+
+import java.nio.file.Path;
+
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Resolves files in the state location of this bundle, where state is kept
+ * across sessions (caches, journals, pending work).
+ */
+public final class StateLocation {
+	private static final String BUNDLE_ID = "edu.kit.kastel.sdq.eclipse.common.core";
+
+	private StateLocation() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * @param first the first path segment below the state location
+	 * @param more  further path segments
+	 * @return the path, or null if there is no state location (e.g., the platform
+	 *         is not running)
+	 */
+	public static Path resolve(String first, String... more) {
+		Path location;
+		try {
+			location = Platform.getStateLocation(Platform.getBundle(BUNDLE_ID)).toFile().toPath();
+		} catch (RuntimeException e) {
+			return null;
+		}
+		return location.resolve(Path.of(first, more));
+	}
+}
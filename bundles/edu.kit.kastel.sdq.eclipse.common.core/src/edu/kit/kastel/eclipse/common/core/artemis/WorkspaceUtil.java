@@ -9,20 +9,32 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.internal.events.BuildCommand;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.internal.IMavenConstants;
-import org.eclipse.m2e.core.ui.internal.UpdateMavenProjectJob;
+import org.eclipse.m2e.core.project.IProjectConfigurationManager;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
 
 import edu.kit.kastel.eclipse.common.api.controller.ISubmissionLifecycleCallback;
 
@@ -44,13 +56,16 @@ public class WorkspaceUtil {
 
 	/**
 	 * Create a new eclipse project given a projectName which corresponds to an
-	 * EXISTING project in the workspace. Natures are Maven and Java
+	 * EXISTING project in the workspace. Natures are Maven and Java. The Maven
+	 * import and the build run in one workspace operation, so the project is built
+	 * once.
 	 *
 	 * @param projectName
 	 * @param buildCallbacks Are called when the triggered build has completed
 	 */
 	public static final void createEclipseProject(final String projectName, List<ISubmissionLifecycleCallback> buildCallbacks) throws CoreException {
-		final IProjectDescription description = ResourcesPlugin.getWorkspace().newProjectDescription(projectName);
+		final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		final IProjectDescription description = workspace.newProjectDescription(projectName);
 
 		final String[] natures = { JavaCore.NATURE_ID, IMavenConstants.NATURE_ID };
 		description.setNatureIds(natures);
@@ -60,23 +75,128 @@ public class WorkspaceUtil {
 		});
 
 		// and save it
-		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
-		project.create(null);
-		project.open(null);
-		project.setDescription(description, null);
+		IProject project = workspace.getRoot().getProject(projectName);
+		// a single workspace operation, so resource listeners are notified only once.
+		// Creating a project changes the workspace root, so the rule is the root and
+		// cannot be narrowed to the project.
+		workspace.run(monitor -> {
+			project.create(monitor);
+			project.open(monitor);
+			project.setDescription(description, monitor);
+		}, workspace.getRuleFactory().createRule(project), IWorkspace.AVOID_UPDATE, null);
+
+		importMavenProject(project, () -> {
+			LOG.info("Maven update & build completed. Notifying " + buildCallbacks.size() + " listeners");
+			buildCallbacks.forEach(c -> c.onPhaseCompleted(project));
+		});
+	}
 
-		var job = new UpdateMavenProjectJob(List.of(project));
+	/**
+	 * Imports the project with m2e and builds it in the background. Both run in
+	 * one workspace job, so auto-build waits until the job has completed and then
+	 * finds nothing left to build. The workspace settings are not touched.
+	 * <p>
+	 * If a project with the same pom has already been imported successfully, all
+	 * dependencies are available locally and the (much faster) offline update is
+	 * used. Falls back to a full update if that fails.
+	 *
+	 * @param whenBuilt is called when the build has completed (or failed)
+	 */
+	private static void importMavenProject(IProject project, Runnable whenBuilt) {
+		IProjectConfigurationManager configurationManager = MavenPlugin.getProjectConfigurationManager();
+		String pomHash = MavenImportCache.hashPom(project);
+		var job = new WorkspaceJob("Importing " + project.getName()) {
+			@Override
+			public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+				boolean resolved = false;
+				if (MavenImportCache.getInstance().contains(pomHash)) {
+					resolved = updateMavenProject(configurationManager, project, true, monitor);
+					if (!resolved) {
+						LOG.info("Offline Maven update of " + project.getName() + " failed, updating online");
+						MavenImportCache.getInstance().remove(pomHash);
+					}
+				}
+				if (!resolved && updateMavenProject(configurationManager, project, MavenPlugin.getMavenConfiguration().isOffline(), monitor)) {
+					MavenImportCache.getInstance().add(pomHash);
+				}
+				project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setRule(MultiRule.combine(configurationManager.getRule(), ResourcesPlugin.getWorkspace().getRuleFactory().buildRule()));
 		job.addJobChangeListener(new JobChangeAdapter() {
 			@Override
 			public void done(IJobChangeEvent e) {
-				LOG.info("Maven update & build completed. Notifying " + buildCallbacks.size() + " listeners");
-				buildCallbacks.forEach(c -> c.onPhaseCompleted(project));
+				whenBuilt.run();
 			}
 		});
-		;
 		job.schedule();
 	}
 
+	/**
+	 * @return whether the update succeeded and all dependencies could be resolved
+	 */
+	private static boolean updateMavenProject(IProjectConfigurationManager configurationManager, IProject project, boolean offline,
+			IProgressMonitor monitor) {
+		// (request, updateConfiguration, cleanProjects, refreshFromLocal)
+		Map<String, IStatus> result = configurationManager.updateProjectConfiguration(new MavenUpdateRequest(List.of(project), offline, false), true, true,
+				true, monitor);
+		return result.values().stream().allMatch(IStatus::isOK) && MavenImportCache.isResolved(project);
+	}
+
+	/**
+	 * Builds the project incrementally in the background.
+	 *
+	 * @param whenBuilt is called when the build has completed (or failed)
+	 */
+	private static void buildProject(IProject project, Runnable whenBuilt) {
+		var job = Job.create("Building " + project.getName(), monitor -> {
+			project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+		});
+		job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+		job.addJobChangeListener(new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent e) {
+				whenBuilt.run();
+			}
+		});
+		job.schedule();
+	}
+
+	/**
+	 * Refresh an EXISTING project whose files have been changed outside of eclipse
+	 * and build it incrementally.
+	 *
+	 * @param projectName
+	 * @param buildCallbacks Are called when the triggered build has completed
+	 */
+	public static final void refreshEclipseProject(final String projectName, List<ISubmissionLifecycleCallback> buildCallbacks) throws CoreException {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		if (!project.isOpen()) {
+			project.open(null);
+		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+
+		buildProject(project, () -> {
+			LOG.info("Incremental build completed. Notifying " + buildCallbacks.size() + " listeners");
+			buildCallbacks.forEach(c -> c.onPhaseCompleted(project));
+		});
+	}
+
+	/**
+	 * Delete all markers of the given type in the given project (if it exists).
+	 *
+	 * @param projectName
+	 * @param markerType
+	 * @throws CoreException
+	 */
+	public static final void deleteMarkers(final String projectName, final String markerType) throws CoreException {
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		if (project.exists()) {
+			project.deleteMarkers(markerType, true, IResource.DEPTH_INFINITE);
+		}
+	}
+
 	private static ICommand createBuildCommand(String name) {
 		BuildCommand command = new BuildCommand();
 		command.setBuilderName(name);
@@ -100,8 +220,9 @@ public class WorkspaceUtil {
 	}
 
 	/**
-	 * Delete a given eclipse project via eclipse functionality and, thereafter, on
-	 * the file system if anything is left.
+	 * Delete a given eclipse project. The project is removed from the workspace
+	 * right away, its directory is moved to the trash and deleted in the
+	 * background.
 	 *
 	 * @param projectName
 	 * @throws CoreException
@@ -114,13 +235,40 @@ public class WorkspaceUtil {
 			return;
 		}
 		File projectLocation = project.getLocation().toFile();
-		project.delete(true, null);
+		// only detach it from the workspace, the content is deleted below
+		project.delete(false, true, null);
 
 		if (projectLocation.exists()) {
-			deleteDirectoryRecursively(projectLocation.toPath());
+			ProjectTrash.delete(projectLocation.toPath());
+		}
+	}
+
+	/**
+	 * Deletes the project of the given directory (see
+	 * {@link #deleteEclipseProject(String)}) and the directory itself, even if it
+	 * has not been imported as project (completely). Failures are only logged.
+	 *
+	 * @param projectDirectory the directory of the project in the workspace
+	 */
+	public static final void deleteProjectQuietly(final File projectDirectory) {
+		try {
+			deleteEclipseProject(projectDirectory.getName());
+			if (projectDirectory.exists()) {
+				deleteDirectoryRecursively(projectDirectory.toPath());
+			}
+		} catch (CoreException | IOException e) {
+			LOG.error("Could not delete project " + projectDirectory.getName(), e);
 		}
 	}
 
+	/**
+	 * Deletes the directories of deleted projects that are left over, e.g., from a
+	 * crash. Runs in the background.
+	 */
+	public static final void purgeDeletedProjects() {
+		ProjectTrash.purge();
+	}
+
 	/**
 	 *
 	 * @return the current workspace as a file.
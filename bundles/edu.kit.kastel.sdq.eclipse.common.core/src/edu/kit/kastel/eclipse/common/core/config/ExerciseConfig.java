@@ -1,9 +1,11 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.core.config;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -31,16 +33,45 @@ public class ExerciseConfig {
 	@JsonProperty("positiveFeedbackAllowed")
 	private Boolean isPositiveFeedbackAllowed;
 
+	// unmodifiable views, created once
+	private List<IMistakeType> iMistakeTypes;
+	private List<IRatingGroup> iRatingGroups;
+	private Map<String, IRatingGroup> ratingGroupsById;
+
 	public List<Integer> getAllowedExercises() {
 		return Collections.unmodifiableList(this.allowedExercises == null ? List.of() : this.allowedExercises);
 	}
 
 	public List<IMistakeType> getIMistakeTypes() {
-		return new ArrayList<>(this.mistakeTypes);
+		if (this.iMistakeTypes == null) {
+			this.createViews();
+		}
+		return this.iMistakeTypes;
 	}
 
 	public List<IRatingGroup> getIRatingGroups() {
-		return new ArrayList<>(this.ratingGroups);
+		if (this.iRatingGroups == null) {
+			this.createViews();
+		}
+		return this.iRatingGroups;
+	}
+
+	/**
+	 * @return the rating group with the given identifier or null, if there is none
+	 */
+	public IRatingGroup getIRatingGroup(String identifier) {
+		if (this.ratingGroupsById == null) {
+			this.createViews();
+		}
+		return this.ratingGroupsById.get(identifier);
+	}
+
+	private void createViews() {
+		this.iMistakeTypes = List.copyOf(this.mistakeTypes);
+		this.iRatingGroups = List.copyOf(this.ratingGroups);
+		// the first rating group wins if identifiers are used twice
+		this.ratingGroupsById = Collections
+				.unmodifiableMap(this.ratingGroups.stream().collect(Collectors.toMap(RatingGroup::getIdentifier, Function.identity(), (first, second) -> first)));
 	}
 
 	public List<MistakeType> getMistakeTypes() {
@@ -62,6 +93,7 @@ public class ExerciseConfig {
 	 */
 	public void initialize(IExercise exercise) {
 		this.mistakeTypes.forEach(e -> e.initialize(exercise));
+		this.createViews();
 	}
 
 	public boolean isPositiveFeedbackAllowed() {
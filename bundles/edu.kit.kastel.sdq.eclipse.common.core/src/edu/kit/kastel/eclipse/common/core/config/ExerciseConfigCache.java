@@ -0,0 +1,138 @@
+/* Licensed under EPL-2.0 2023. */
+package edu.kit.kastel.eclipse.common.core.config;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
+
+/**
+ * Parses each config file once per exercise and shares the result between all
+ * submissions of that exercise. An entry is replaced as soon as the file is
+ * changed (detected by its modification time and size and by watching its
+ * directory), so edits take effect for the next submission without a restart.
+ * <p>
+ * The returned configs are already {@link ExerciseConfig#initialize
+ * initialized} for their exercise and must not be modified.
+ */
+public final class ExerciseConfigCache {
+	private static final ILog log = Platform.getLog(ExerciseConfigCache.class);
+
+	private static final ExerciseConfigCache INSTANCE = new ExerciseConfigCache();
+
+	private record Key(Path path, FileTime lastModified, long size, int exerciseId) {
+	}
+
+	private final ObjectMapper oom = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	// all guarded by this
+	private final Map<Key, ExerciseConfig> configs = new HashMap<>();
+	private final Set<Path> watchedDirectories = new HashSet<>();
+	private WatchService watchService;
+
+	private ExerciseConfigCache() {
+	}
+
+	public static ExerciseConfigCache getInstance() {
+		return INSTANCE;
+	}
+
+	public synchronized ExerciseConfig getExerciseConfig(File configFile, IExercise exercise) throws IOException, ExerciseConfigConverterException {
+		Path path = configFile.toPath().toAbsolutePath().normalize();
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		Key key = new Key(path, attributes.lastModifiedTime(), attributes.size(), exercise.getExerciseId());
+
+		ExerciseConfig exerciseConfig = this.configs.get(key);
+		if (exerciseConfig == null) {
+			// drop the configs of older versions of the file
+			this.configs.keySet().removeIf(
+					cached -> cached.path().equals(path) && (!cached.lastModified().equals(key.lastModified()) || cached.size() != key.size()));
+			exerciseConfig = this.oom.readValue(path.toFile(), ExerciseConfig.class);
+			exerciseConfig.initialize(exercise);
+			this.configs.put(key, exerciseConfig);
+			this.watch(path.getParent());
+		}
+		return exerciseConfig;
+	}
+
+	private synchronized void evict(Path path) {
+		this.configs.keySet().removeIf(cached -> cached.path().equals(path));
+	}
+
+	private synchronized void evictDirectory(Path directory) {
+		this.configs.keySet().removeIf(cached -> directory.equals(cached.path().getParent()));
+	}
+
+	private void watch(Path directory) {
+		if (directory == null || this.watchedDirectories.contains(directory)) {
+			return;
+		}
+		try {
+			if (this.watchService == null) {
+				WatchService newWatchService = directory.getFileSystem().newWatchService();
+				Thread thread = new Thread(() -> this.processEvents(newWatchService), "Exercise config watcher");
+				thread.setDaemon(true);
+				thread.start();
+				this.watchService = newWatchService;
+			}
+			directory.register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+			this.watchedDirectories.add(directory);
+		} catch (IOException | UnsupportedOperationException e) {
+			// the modification time is still checked
+			log.warn("Cannot watch " + directory + " for config changes: " + e.getMessage());
+		}
+	}
+
+	private void processEvents(WatchService service) {
+		while (true) {
+			WatchKey watchKey;
+			try {
+				watchKey = service.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ClosedWatchServiceException e) {
+				return;
+			}
+
+			Path directory = (Path) watchKey.watchable();
+			for (WatchEvent<?> event : watchKey.pollEvents()) {
+				if (event.context() instanceof Path fileName) {
+					this.evict(directory.resolve(fileName));
+				} else {
+					// overflow: events have been lost
+					this.evictDirectory(directory);
+				}
+			}
+			if (!watchKey.reset()) {
+				// the directory is gone
+				synchronized (this) {
+					this.watchedDirectories.remove(directory);
+				}
+				this.evictDirectory(directory);
+			}
+		}
+	}
+}
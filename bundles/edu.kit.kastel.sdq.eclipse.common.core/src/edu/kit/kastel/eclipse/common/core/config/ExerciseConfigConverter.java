@@ -2,7 +2,9 @@
 package edu.kit.kastel.eclipse.common.core.config;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.util.StdConverter;
 
@@ -18,15 +20,16 @@ public final class ExerciseConfigConverter extends StdConverter<ExerciseConfig,
 	@Override
 	public ExerciseConfig convert(final ExerciseConfig exerciseConfig) throws ExerciseConfigConverterException {
 		List<RatingGroup> ratingGroups = exerciseConfig.getRatingGroups();
+		// the first rating group wins if identifiers are used twice
+		Map<String, RatingGroup> ratingGroupsById = ratingGroups.stream()
+				.collect(Collectors.toMap(RatingGroup::getIdentifier, Function.identity(), (first, second) -> first));
 		for (MistakeType mistakeType : exerciseConfig.getMistakeTypes()) {
 			// find rating group
-			Optional<RatingGroup> ratingGroupOptional = ratingGroups.stream()
-					.filter(ratingGroup -> ratingGroup.getIdentifier().equals(mistakeType.getAppliesTo())).findFirst();
-			if (ratingGroupOptional.isEmpty()) {
+			final RatingGroup ratingGroup = ratingGroupsById.get(mistakeType.getAppliesTo());
+			if (ratingGroup == null) {
 				throw new ExerciseConfigConverterException("No RatingGroup could be associated with MistakeType " + mistakeType.getIdentifier()
 						+ " with appliesTo := " + mistakeType.getAppliesTo() + " and available RatingGroups := " + ratingGroups);
 			}
-			final RatingGroup ratingGroup = ratingGroupOptional.get();
 			// set both associations
 			mistakeType.setRatingGroup(ratingGroup);
 			ratingGroup.addMistakeType(mistakeType);
@@ -4,21 +4,20 @@ package edu.kit.kastel.eclipse.common.core.config;
 import java.io.File;
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
 
 /**
- * Implementation of {@link GradingDAO} using a json file.
+ * Implementation of {@link GradingDAO} using a json file. The file is parsed
+ * by the {@link ExerciseConfigCache}, this DAO keeps the config it got first,
+ * so it does not change while a submission is assessed.
  *
  */
 public class JsonFileConfigDAO implements GradingDAO {
 
 	private ExerciseConfig exerciseConfig;
+	private IExercise exercise;
 
 	private final File configFile;
-	private final ObjectMapper oom = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
 	public JsonFileConfigDAO(File configFile) {
 		this.configFile = configFile;
@@ -26,14 +25,10 @@ public class JsonFileConfigDAO implements GradingDAO {
 
 	@Override
 	public ExerciseConfig getExerciseConfig(IExercise exercise) throws IOException, ExerciseConfigConverterException {
-		if (this.exerciseConfig == null) {
-			this.parse();
+		if (this.exerciseConfig == null || this.exercise != exercise) {
+			this.exerciseConfig = ExerciseConfigCache.getInstance().getExerciseConfig(this.configFile, exercise);
+			this.exercise = exercise;
 		}
-		this.exerciseConfig.initialize(exercise);
 		return this.exerciseConfig;
 	}
-
-	private void parse() throws IOException, ExerciseConfigConverterException {
-		this.exerciseConfig = oom.readValue(this.configFile, ExerciseConfig.class);
-	}
 }
@@ -29,7 +29,10 @@ public class PenaltyRuleDeserializer extends StdDeserializer<PenaltyRule> {
 	 * A means to construct PenaltyRules without having to edit a switch/case
 	 * statement: To add a new enum value you merely need to write a lambda
 	 * constructing your new Subclass of PenaltyRule out of your new custom values
-	 * which are provided in the penaltyRuleNode.
+	 * which are provided in the penaltyRuleNode. If the penalty of the new rule
+	 * only depends on the number of annotations and their custom penalties, it
+	 * should also support the aggregate based evaluation (see
+	 * {@link PenaltyRule#supportsAggregate()}).
 	 *
 	 */
 	public enum PenaltyRuleType {
@@ -4,10 +4,12 @@ package edu.kit.kastel.eclipse.common.core.model;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import edu.kit.kastel.eclipse.common.api.artemis.mapping.IExercise;
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
@@ -15,6 +17,9 @@ import edu.kit.kastel.eclipse.common.core.model.rule.PenaltyRule;
 import edu.kit.kastel.eclipse.common.core.model.rule.ThresholdPenaltyRule;
 
 public class MistakeType implements IMistakeType {
+	// penalty rule of mistake types whose penalty is disabled for the exercise
+	private static final PenaltyRule NO_PENALTY = new ThresholdPenaltyRule(1, 0);
+
 	@JsonProperty("shortName")
 	private String identifier;
 
@@ -43,6 +48,9 @@ public class MistakeType implements IMistakeType {
 	private String enabledPenaltyForExercises;
 
 	private transient IExercise currentExercise = null;
+	// evaluated for the current exercise by initialize
+	private transient boolean enabledMistakeType = true;
+	private transient boolean enabledPenalty = true;
 
 	@Override
 	public double calculate(List<IAnnotation> annotations) {
@@ -50,6 +58,16 @@ public class MistakeType implements IMistakeType {
 		return this.getPenaltyRule().calculate(annotations);
 	}
 
+	@Override
+	public double calculate(AnnotationAggregate aggregate) {
+		return this.getPenaltyRule().calculate(aggregate);
+	}
+
+	@Override
+	public boolean supportsAggregate() {
+		return this.getPenaltyRule().supportsAggregate();
+	}
+
 	/**
 	 * @return to which rating group this applies.
 	 */
@@ -76,22 +94,25 @@ public class MistakeType implements IMistakeType {
 	@Override
 	public void initialize(IExercise exercise) {
 		currentExercise = exercise;
+		this.enabledMistakeType = matchesCurrentExercise(this.enabledForExercises);
+		this.enabledPenalty = matchesCurrentExercise(this.enabledPenaltyForExercises) || penaltyRule.isCustomPenalty();
 	}
 
-	@Override
-	public boolean isEnabledMistakeType() {
-		if (enabledForExercises == null || currentExercise == null) {
+	private boolean matchesCurrentExercise(String regex) {
+		if (regex == null || currentExercise == null) {
 			return true;
 		}
-		return this.currentExercise.getShortName().matches(this.enabledForExercises);
+		return Pattern.matches(regex, this.currentExercise.getShortName());
+	}
+
+	@Override
+	public boolean isEnabledMistakeType() {
+		return this.enabledMistakeType;
 	}
 
 	@Override
 	public boolean isEnabledPenalty() {
-		if (enabledPenaltyForExercises == null || currentExercise == null || penaltyRule.isCustomPenalty()) {
-			return true;
-		}
-		return this.currentExercise.getShortName().matches(this.enabledPenaltyForExercises);
+		return this.enabledPenalty;
 	}
 
 	@Override
@@ -103,8 +124,7 @@ public class MistakeType implements IMistakeType {
 		if (isEnabledPenalty()) {
 			return this.penaltyRule;
 		}
-		// Create penalty with zero points deduction
-		return new ThresholdPenaltyRule(1, 0);
+		return NO_PENALTY;
 	}
 
 	@Override
@@ -118,6 +138,12 @@ public class MistakeType implements IMistakeType {
 		return getMessage(languageKey) + "\n" + penaltyText;
 	}
 
+	@Override
+	public String getTooltip(String languageKey, AnnotationAggregate aggregate) {
+		String penaltyText = getPenaltyRule().getTooltip(aggregate);
+		return getMessage(languageKey) + "\n" + penaltyText;
+	}
+
 	/**
 	 * Sets a new rating group if there ain't already one. (Used for
 	 * deserialization).
@@ -2,10 +2,10 @@
 package edu.kit.kastel.eclipse.common.core.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -47,7 +47,7 @@ public class RatingGroup implements IRatingGroup {
 
 	@Override
 	public List<IMistakeType> getMistakeTypes() {
-		return this.mistakeTypes.stream().map(IMistakeType.class::cast).collect(Collectors.toList());
+		return Collections.unmodifiableList(this.mistakeTypes);
 	}
 
 	@Override
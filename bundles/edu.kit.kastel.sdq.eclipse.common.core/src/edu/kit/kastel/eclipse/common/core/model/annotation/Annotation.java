@@ -1,6 +1,7 @@
 /* Licensed under EPL-2.0 2022-2023. */
 package edu.kit.kastel.eclipse.common.core.model.annotation;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -112,6 +113,26 @@ public class Annotation implements IAnnotation {
 		this.mistakeType = mistakeType;
 	}
 
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.uuid);
+	}
+
+	/**
+	 * Annotations are identified by their id.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || this.getClass() != obj.getClass()) {
+			return false;
+		}
+		Annotation other = (Annotation) obj;
+		return Objects.equals(this.uuid, other.uuid);
+	}
+
 	@Override
 	public String toString() {
 		return "Annotation [id=" + this.uuid + ", mistakeType=" + this.mistakeType + ", startLine=" + this.startLine + ", endLine=" + this.endLine
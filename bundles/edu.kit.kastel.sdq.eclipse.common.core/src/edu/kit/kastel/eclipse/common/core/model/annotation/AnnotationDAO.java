@@ -1,43 +1,91 @@
 /* Licensed under EPL-2.0 2022. */
 package edu.kit.kastel.eclipse.common.core.model.annotation;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 
+/**
+ * Keeps the annotations indexed by their id, their mistake type and their file
+ * (by start line). Reads return an immutable snapshot that is only rebuilt
+ * after a modification.
+ */
 public class AnnotationDAO implements IAnnotationDAO {
 
-	private final Set<IAnnotation> annotations;
+	// insertion order, so the annotations are listed in the order they were made
+	private final Map<String, IAnnotation> annotationsById = new LinkedHashMap<>();
+	private final Map<IMistakeType, Map<String, IAnnotation>> annotationsByMistakeType = new HashMap<>();
+	// updated with every annotation that is added, modified or removed
+	private final Map<IMistakeType, AnnotationAggregate> aggregatesByMistakeType = new HashMap<>();
+	// class file path -> start line -> annotations starting there (by id)
+	private final Map<String, NavigableMap<Integer, Map<String, IAnnotation>>> annotationsByFile = new HashMap<>();
+	// upper bound for (endLine - startLine) per file, to limit overlap queries
+	private final Map<String, Integer> maxLinesPerFile = new HashMap<>();
 
-	public AnnotationDAO() {
-		this.annotations = new HashSet<>();
-	}
+	private List<IAnnotation> snapshot;
 
 	@Override
 	public void addAnnotation(String annotationId, IMistakeType mistakeType, int startLine, int endLine, String fullyClassifiedClassName, String customMessage,
 			Double customPenalty) throws AnnotationException {
-		if (this.idExists(annotationId)) {
+		if (this.annotationsById.containsKey(annotationId)) {
 			throw new AnnotationException("ID " + annotationId + " already exists!");
 		}
 
-		this.annotations.add(new Annotation(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty));
+		this.index(new Annotation(annotationId, mistakeType, startLine, endLine, fullyClassifiedClassName, customMessage, customPenalty));
 	}
 
 	@Override
 	public IAnnotation getAnnotation(String annotationId) {
-		return this.annotations.stream().filter(annotation -> annotation.getUUID().equals(annotationId)).findAny().orElseThrow();
+		return this.findAnnotation(annotationId).orElseThrow(() -> new NoSuchElementException("No annotation with ID " + annotationId));
+	}
+
+	@Override
+	public Optional<IAnnotation> findAnnotation(String annotationId) {
+		return Optional.ofNullable(this.annotationsById.get(annotationId));
+	}
+
+	@Override
+	public List<IAnnotation> getAnnotations() {
+		if (this.snapshot == null) {
+			this.snapshot = List.copyOf(this.annotationsById.values());
+		}
+		return this.snapshot;
 	}
 
 	@Override
-	public Set<IAnnotation> getAnnotations() {
-		return Collections.unmodifiableSet(this.annotations);
+	public List<IAnnotation> getAnnotations(IMistakeType mistakeType) {
+		Map<String, IAnnotation> annotations = this.annotationsByMistakeType.get(mistakeType);
+		return annotations == null ? List.of() : List.copyOf(annotations.values());
 	}
 
-	private boolean idExists(String annotationId) {
-		return this.annotations.stream().anyMatch(annotation -> annotation.getUUID().equals(annotationId));
+	@Override
+	public AnnotationAggregate getAggregate(IMistakeType mistakeType) {
+		return this.aggregatesByMistakeType.getOrDefault(mistakeType, AnnotationAggregate.EMPTY);
+	}
+
+	@Override
+	public List<IAnnotation> getAnnotations(String classFilePath, int startLine, int endLine) {
+		NavigableMap<Integer, Map<String, IAnnotation>> byStartLine = this.annotationsByFile.get(classFilePath);
+		if (byStartLine == null || startLine > endLine) {
+			return List.of();
+		}
+		// an annotation overlaps if it starts before endLine and does not end before startLine
+		int earliestStart = startLine - this.maxLinesPerFile.getOrDefault(classFilePath, 0);
+		List<IAnnotation> overlapping = new ArrayList<>();
+		for (Map<String, IAnnotation> annotations : byStartLine.subMap(earliestStart, true, endLine, true).values()) {
+			annotations.values().stream().filter(annotation -> annotation.getEndLine() >= startLine).forEach(overlapping::add);
+		}
+		return overlapping;
 	}
 
 	@Override
@@ -46,15 +94,62 @@ public class AnnotationDAO implements IAnnotationDAO {
 		final IAnnotation newAnnotation = new Annotation(oldAnnotation.getUUID(), oldAnnotation.getMistakeType(), oldAnnotation.getStartLine(),
 				oldAnnotation.getEndLine(), oldAnnotation.getClassFilePath(), customMessage, customPenalty);
 
-		this.annotations.remove(oldAnnotation);
-		this.annotations.add(newAnnotation);
+		// same id, type, file and lines: replaces the old annotation in all indexes (keeping its position)
+		this.index(newAnnotation);
 	}
 
 	@Override
 	public void removeAnnotation(String annotationId) {
-		if (this.idExists(annotationId)) {
-			this.annotations.remove(this.getAnnotation(annotationId));
+		IAnnotation annotation = this.annotationsById.get(annotationId);
+		if (annotation != null) {
+			this.unindex(annotation);
+		}
+	}
+
+	private void index(IAnnotation annotation) {
+		String id = annotation.getUUID();
+		// a modified annotation replaces the old one, which has the same mistake type
+		IAnnotation replaced = this.annotationsById.put(id, annotation);
+		this.annotationsByMistakeType.computeIfAbsent(annotation.getMistakeType(), type -> new LinkedHashMap<>()).put(id, annotation);
+		AnnotationAggregate aggregate = this.getAggregate(annotation.getMistakeType());
+		if (replaced != null) {
+			aggregate = aggregate.minus(replaced);
 		}
+		this.aggregatesByMistakeType.put(annotation.getMistakeType(), aggregate.plus(annotation));
+		this.annotationsByFile.computeIfAbsent(annotation.getClassFilePath(), file -> new TreeMap<>())
+				.computeIfAbsent(annotation.getStartLine(), line -> new LinkedHashMap<>()).put(id, annotation);
+		this.maxLinesPerFile.merge(annotation.getClassFilePath(), Math.max(0, annotation.getEndLine() - annotation.getStartLine()), Math::max);
+		this.snapshot = null;
 	}
 
+	private void unindex(IAnnotation annotation) {
+		String id = annotation.getUUID();
+		this.annotationsById.remove(id);
+		removeFromBucket(this.annotationsByMistakeType, annotation.getMistakeType(), id);
+		AnnotationAggregate aggregate = this.getAggregate(annotation.getMistakeType()).minus(annotation);
+		if (aggregate.isEmpty()) {
+			this.aggregatesByMistakeType.remove(annotation.getMistakeType());
+		} else {
+			this.aggregatesByMistakeType.put(annotation.getMistakeType(), aggregate);
+		}
+		NavigableMap<Integer, Map<String, IAnnotation>> byStartLine = this.annotationsByFile.get(annotation.getClassFilePath());
+		if (byStartLine != null) {
+			removeFromBucket(byStartLine, annotation.getStartLine(), id);
+			if (byStartLine.isEmpty()) {
+				this.annotationsByFile.remove(annotation.getClassFilePath());
+				this.maxLinesPerFile.remove(annotation.getClassFilePath());
+			}
+		}
+		this.snapshot = null;
+	}
+
+	private static <K> void removeFromBucket(Map<K, Map<String, IAnnotation>> buckets, K key, String id) {
+		Map<String, IAnnotation> bucket = buckets.get(key);
+		if (bucket != null) {
+			bucket.remove(id);
+			if (bucket.isEmpty()) {
+				buckets.remove(key);
+			}
+		}
+	}
 }
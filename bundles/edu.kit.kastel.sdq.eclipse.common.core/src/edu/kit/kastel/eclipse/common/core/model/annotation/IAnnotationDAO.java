@@ -1,8 +1,10 @@
 /* Licensed under EPL-2.0 2022. */
 package edu.kit.kastel.eclipse.common.core.model.annotation;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 
@@ -29,10 +31,39 @@ public interface IAnnotationDAO {
 	IAnnotation getAnnotation(String annotationId);
 
 	/**
+	 * Get an annotation by id
 	 *
-	 * @return all annotations already made for the current assessment.
+	 * @param annotationId unique annotation identifier
+	 *
+	 * @return the annotation or empty if there is none with that id
+	 */
+	Optional<IAnnotation> findAnnotation(String annotationId);
+
+	/**
+	 *
+	 * @return all annotations already made for the current assessment (an
+	 *         immutable snapshot).
+	 */
+	List<IAnnotation> getAnnotations();
+
+	/**
+	 *
+	 * @return all annotations of the given mistake type.
+	 */
+	List<IAnnotation> getAnnotations(IMistakeType mistakeType);
+
+	/**
+	 * Like {@link #getAnnotations(IMistakeType)}, but only the number of
+	 * annotations and the sum of their custom penalties. Does not copy anything.
+	 */
+	AnnotationAggregate getAggregate(IMistakeType mistakeType);
+
+	/**
+	 *
+	 * @return all annotations in the given file that overlap the given lines
+	 *         (inclusive).
 	 */
-	Set<IAnnotation> getAnnotations();
+	List<IAnnotation> getAnnotations(String classFilePath, int startLine, int endLine);
 
 	/**
 	 * Modify an annotation in the database.
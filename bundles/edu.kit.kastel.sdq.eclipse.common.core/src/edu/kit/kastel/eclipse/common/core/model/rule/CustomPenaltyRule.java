@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 
 public class CustomPenaltyRule extends PenaltyRule {
@@ -19,11 +20,21 @@ public class CustomPenaltyRule extends PenaltyRule {
 	@Override
 	public double calculate(List<IAnnotation> annotations) {
 		if (annotations != null) {
-			return annotations.stream().mapToDouble(annotation -> annotation.getCustomPenalty().orElse(0.D)).sum();
+			return this.calculate(AnnotationAggregate.of(annotations));
 		}
 		return 0.D;
 	}
 
+	@Override
+	public double calculate(AnnotationAggregate aggregate) {
+		return aggregate.customPenaltySum();
+	}
+
+	@Override
+	public boolean supportsAggregate() {
+		return true;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return DISPLAY_NAME;
@@ -36,7 +47,12 @@ public class CustomPenaltyRule extends PenaltyRule {
 
 	@Override
 	public String getTooltip(List<IAnnotation> annotations) {
-		return new StringBuilder().append(this.calculate(annotations)).append(" points [").append(annotations.size()).append(" annotations made]").toString();
+		return this.getTooltip(AnnotationAggregate.of(annotations));
+	}
+
+	@Override
+	public String getTooltip(AnnotationAggregate aggregate) {
+		return new StringBuilder().append(this.calculate(aggregate)).append(" points [").append(aggregate.count()).append(" annotations made]").toString();
 	}
 
 	@Override
@@ -5,11 +5,15 @@ import java.util.List;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.core.config.PenaltyRuleDeserializer;
 
 /**
- * This class is used by an IMistakeType-Instance to calculate penalties.
+ * This class is used by an IMistakeType-Instance to calculate penalties. Rules
+ * that only depend on the number of annotations and their custom penalties
+ * should also implement the {@link AnnotationAggregate} based methods, so no
+ * list of annotations has to be created to evaluate them.
  */
 @JsonDeserialize(using = PenaltyRuleDeserializer.class)
 public abstract class PenaltyRule {
@@ -23,6 +27,24 @@ public abstract class PenaltyRule {
 	 */
 	public abstract double calculate(List<IAnnotation> annotations);
 
+	/**
+	 * Calculate the penalty of annotations with the given aggregate. Only
+	 * supported if {@link #supportsAggregate()}.
+	 *
+	 * @return a reducing penalty
+	 */
+	public double calculate(AnnotationAggregate aggregate) {
+		throw new UnsupportedOperationException(this.getShortName() + " needs the annotations");
+	}
+
+	/**
+	 * @return whether the penalty and the tooltip only depend on the
+	 *         {@link AnnotationAggregate} of the annotations.
+	 */
+	public boolean supportsAggregate() {
+		return false;
+	}
+
 	public abstract String getDisplayName();
 
 	public abstract String getShortName();
@@ -33,5 +55,13 @@ public abstract class PenaltyRule {
 	 */
 	public abstract String getTooltip(List<IAnnotation> annotations);
 
+	/**
+	 * Like {@link #getTooltip(List)}. Only supported if
+	 * {@link #supportsAggregate()}.
+	 */
+	public String getTooltip(AnnotationAggregate aggregate) {
+		throw new UnsupportedOperationException(this.getShortName() + " needs the annotations");
+	}
+
 	public abstract boolean isCustomPenalty();
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 
 public class StackingPenaltyRule extends PenaltyRule {
@@ -29,10 +30,20 @@ public class StackingPenaltyRule extends PenaltyRule {
 
 	@Override
 	public double calculate(List<IAnnotation> annotations) {
-		int multiplier = maxUses == null ? annotations.size() : Math.min(annotations.size(), maxUses);
+		return this.calculate(AnnotationAggregate.of(annotations));
+	}
+
+	@Override
+	public double calculate(AnnotationAggregate aggregate) {
+		int multiplier = maxUses == null ? aggregate.count() : Math.min(aggregate.count(), maxUses);
 		return (multiplier * -this.penalty) / 10.0;
 	}
 
+	@Override
+	public boolean supportsAggregate() {
+		return true;
+	}
+
 	@Override
 	public String getDisplayName() {
 		return DISPLAY_NAME;
@@ -45,8 +56,13 @@ public class StackingPenaltyRule extends PenaltyRule {
 
 	@Override
 	public String getTooltip(List<IAnnotation> annotations) {
-		double penaltyValue = this.calculate(annotations);
-		String tooltip = penaltyValue + " points [" + annotations.size() + " annotations made";
+		return this.getTooltip(AnnotationAggregate.of(annotations));
+	}
+
+	@Override
+	public String getTooltip(AnnotationAggregate aggregate) {
+		double penaltyValue = this.calculate(aggregate);
+		String tooltip = penaltyValue + " points [" + aggregate.count() + " annotations made";
 		tooltip += maxUses != null ? " - capped to " + maxUses + " annotations" : "";
 		tooltip += "]";
 		return tooltip;
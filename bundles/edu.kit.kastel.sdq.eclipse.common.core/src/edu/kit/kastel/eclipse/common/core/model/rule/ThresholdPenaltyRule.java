@@ -6,6 +6,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import edu.kit.kastel.eclipse.common.api.model.AnnotationAggregate;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 
 /**
@@ -32,7 +33,17 @@ public class ThresholdPenaltyRule extends PenaltyRule {
 
 	@Override
 	public double calculate(List<IAnnotation> annotations) {
-		return annotations.size() >= this.threshold ? -this.penalty : 0.D;
+		return this.calculate(AnnotationAggregate.of(annotations));
+	}
+
+	@Override
+	public double calculate(AnnotationAggregate aggregate) {
+		return aggregate.count() >= this.threshold ? -this.penalty : 0.D;
+	}
+
+	@Override
+	public boolean supportsAggregate() {
+		return true;
 	}
 
 	@Override
@@ -47,11 +58,16 @@ public class ThresholdPenaltyRule extends PenaltyRule {
 
 	@Override
 	public String getTooltip(List<IAnnotation> annotations) {
+		return this.getTooltip(AnnotationAggregate.of(annotations));
+	}
+
+	@Override
+	public String getTooltip(AnnotationAggregate aggregate) {
 		if (penalty == 0) {
-			return annotations.size() + " annotations. No deduction will be made.";
+			return aggregate.count() + " annotations. No deduction will be made.";
 		}
-		double penaltyValue = this.calculate(annotations);
-		return penaltyValue + " points [" + annotations.size() + " of at least " + this.threshold + " annotations made]";
+		double penaltyValue = this.calculate(aggregate);
+		return penaltyValue + " points [" + aggregate.count() + " of at least " + this.threshold + " annotations made]";
 	}
 
 	@Override
@@ -106,6 +106,11 @@ class GermanLanguage implements I18N {
 		return "Abgaben neu laden";
 	}
 
+	@Override
+	public String backlogPrepare() {
+		return "Alle vorbereiten";
+	}
+
 	@Override
 	public String closeAssessment() {
 		return "Korrektur schließen";
@@ -296,6 +301,26 @@ class GermanLanguage implements I18N {
 		return "Alle Typen";
 	}
 
+	@Override
+	public String settingsPrefetchDepth() {
+		return "Im Voraus vorzubereitende Abgaben (0 = aus)";
+	}
+
+	@Override
+	public String settingsHibernateAfterMinutes() {
+		return "Inaktive Abgabeprojekte schließen nach Minuten (0 = nie)";
+	}
+
+	@Override
+	public String settingsMaxOpenProjects() {
+		return "Maximal geöffnete Abgabeprojekte (0 = unbegrenzt)";
+	}
+
+	@Override
+	public String settingsAutosaveDelay() {
+		return "Korrekturen automatisch speichern nach Sekunden (0 = aus)";
+	}
+
 	@Override
 	public String general() {
 		return "Allgemein";
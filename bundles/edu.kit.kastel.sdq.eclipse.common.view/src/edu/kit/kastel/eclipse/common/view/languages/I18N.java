@@ -99,6 +99,10 @@ public interface I18N {
 		return "Refresh Submissions";
 	}
 
+	default String backlogPrepare() {
+		return "Prepare All";
+	}
+
 	default String closeAssessment() {
 		return "Close Assessment";
 	}
@@ -251,6 +255,22 @@ public interface I18N {
 		return "All Types";
 	}
 
+	default String settingsPrefetchDepth() {
+		return "Submissions to prepare in advance (0 = off)";
+	}
+
+	default String settingsHibernateAfterMinutes() {
+		return "Close inactive submission projects after minutes (0 = never)";
+	}
+
+	default String settingsMaxOpenProjects() {
+		return "Maximum open submission projects (0 = unlimited)";
+	}
+
+	default String settingsAutosaveDelay() {
+		return "Save assessments automatically after seconds (0 = off)";
+	}
+
 	default String general() {
 		return "General";
 	}
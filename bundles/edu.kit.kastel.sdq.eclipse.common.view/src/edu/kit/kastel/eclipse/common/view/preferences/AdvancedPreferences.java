@@ -53,6 +53,25 @@ public class AdvancedPreferences extends FieldEditorPreferencePage implements IW
 		columnsForGradingButtons.setEmptyStringAllowed(false);
 		columnsForGradingButtons.setValidRange(1, 10);
 
+		var prefetchDepth = new IntegerFieldEditor(PreferenceConstants.GRADING_PREFETCH_DEPTH, I18N().settingsPrefetchDepth(), parent);
+		prefetchDepth.setEmptyStringAllowed(false);
+		prefetchDepth.setValidRange(0, 5);
+
+		var hibernateAfterMinutes = new IntegerFieldEditor(PreferenceConstants.GRADING_HIBERNATE_AFTER_MINUTES,
+				I18N().settingsHibernateAfterMinutes(), parent);
+		hibernateAfterMinutes.setEmptyStringAllowed(false);
+		hibernateAfterMinutes.setValidRange(0, 24 * 60);
+
+		var maxOpenProjects = new IntegerFieldEditor(PreferenceConstants.GRADING_MAX_OPEN_PROJECTS, I18N().settingsMaxOpenProjects(),
+				parent);
+		maxOpenProjects.setEmptyStringAllowed(false);
+		maxOpenProjects.setValidRange(0, 100);
+
+		var autosaveDelay = new IntegerFieldEditor(PreferenceConstants.GRADING_AUTOSAVE_DELAY_SECONDS, I18N().settingsAutosaveDelay(),
+				parent);
+		autosaveDelay.setEmptyStringAllowed(false);
+		autosaveDelay.setValidRange(0, 60 * 60);
+
 		var openFiles = new ComboFieldEditor(PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START, I18N().settingsOpenFilesOnAssessmentStart(),
 				new String[][] { { I18N().settingsOpenFilesOnAssessmentStartNone(), PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START_NONE },
 						{ I18N().settingsOpenFilesOnAssessmentStartMain(), PreferenceConstants.OPEN_FILES_ON_ASSESSMENT_START_MAIN },
@@ -73,6 +92,10 @@ public class AdvancedPreferences extends FieldEditorPreferencePage implements IW
 		this.addField(overrideDefaultPreferences);
 		this.addField(searchInMistakeMessages);
 		this.addField(openFiles);
+		this.addField(prefetchDepth);
+		this.addField(hibernateAfterMinutes);
+		this.addField(maxOpenProjects);
+		this.addField(autosaveDelay);
 
 		this.addField(autograderDownloadJar);
 		this.addField(autograderJarPath);
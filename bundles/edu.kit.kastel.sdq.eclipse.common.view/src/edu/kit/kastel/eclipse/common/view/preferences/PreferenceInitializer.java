@@ -25,6 +25,10 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		store.setDefault(PreferenceConstants.GRADING_VIEW_BUTTONS_IN_COLUMN, 3);
 		store.setDefault(PreferenceConstants.GRADING_VIEW_PREFERS_LARGE_PENALTY_TEXT_PATH, false);
 		store.setDefault(PreferenceConstants.GRADING_VIEW_PREFERS_TEXT_WRAPPING_IN_PENALTY_TEXT_PATH, false);
+		store.setDefault(PreferenceConstants.GRADING_PREFETCH_DEPTH, 0);
+		store.setDefault(PreferenceConstants.GRADING_HIBERNATE_AFTER_MINUTES, 0);
+		store.setDefault(PreferenceConstants.GRADING_MAX_OPEN_PROJECTS, 0);
+		store.setDefault(PreferenceConstants.GRADING_AUTOSAVE_DELAY_SECONDS, 30);
 		store.setDefault(PreferenceConstants.GENERAL_OVERRIDE_DEFAULT_PREFERENCES, true);
 		store.setDefault(PreferenceConstants.GENERAL_PREFERRED_LANGUAGE, LanguageSettings.getDefaultLanguage().languageDisplayName());
 		store.setDefault(PreferenceConstants.SEARCH_IN_MISTAKE_MESSAGES, true);
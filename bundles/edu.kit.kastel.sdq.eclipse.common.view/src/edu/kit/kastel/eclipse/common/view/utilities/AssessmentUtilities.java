@@ -33,6 +33,7 @@ import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.ui.texteditor.ITextEditor;
 
 import edu.kit.kastel.eclipse.common.api.ArtemisClientException;
+import edu.kit.kastel.eclipse.common.api.EclipseArtemisConstants;
 import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.model.IAnnotation;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
@@ -44,7 +45,7 @@ import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
  */
 public final class AssessmentUtilities {
 
-	public static final String MARKER_CLASS_NAME = "edu.kit.kastel.eclipse.common.view.assessment.marker";
+	public static final String MARKER_CLASS_NAME = EclipseArtemisConstants.ASSESSMENT_MARKER_TYPE;
 	public static final String MARKER_ATTRIBUTE_ANNOTATION_ID = "annotationID";
 	public static final String MARKER_ATTRIBUTE_ERROR = "errorType";
 	public static final String MARKER_ATTRIBUTE_ERROR_DESCRIPTION = "errorTypeDescription";
@@ -6,6 +6,7 @@ import org.osgi.framework.BundleContext;
 
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
 import edu.kit.kastel.eclipse.common.core.GradingSystemwideController;
+import edu.kit.kastel.eclipse.common.core.artemis.WorkspaceUtil;
 import edu.kit.kastel.eclipse.common.view.activator.CommonActivator;
 import edu.kit.kastel.eclipse.common.view.controllers.SWTViewHandler;
 
@@ -33,6 +34,8 @@ public class Activator extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		// leftovers of projects deleted in a previous session
+		WorkspaceUtil.purgeDeletedProjects();
 	}
 
 	@Override
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.ILog;
@@ -34,7 +35,9 @@ import org.eclipse.ui.part.ViewPart;
 import org.eclipse.wb.swt.SWTResourceManager;
 
 import edu.kit.kastel.eclipse.common.api.PreferenceConstants;
+import edu.kit.kastel.eclipse.common.api.controller.IAssessmentController;
 import edu.kit.kastel.eclipse.common.api.controller.IGradingSystemwideController;
+import edu.kit.kastel.eclipse.common.api.controller.IPenaltyListener;
 import edu.kit.kastel.eclipse.common.api.model.IMistakeType;
 import edu.kit.kastel.eclipse.common.api.model.IRatingGroup;
 import edu.kit.kastel.eclipse.common.view.activator.CommonActivator;
@@ -73,6 +76,10 @@ public class ArtemisGradingView extends ViewPart {
 	private Composite gradingButtonComposite;
 
 	private ResultTab result;
+	// updates the penalties of the rating groups whose annotations have changed
+	private final IPenaltyListener penaltyListener = this::onPenaltiesChanged;
+	// the controllers outlive this view, so the listener has to be removed again
+	private IAssessmentController listenedAssessmentController;
 
 	public ArtemisGradingView() {
 		this.viewController = new AssessmentViewController();
@@ -102,8 +109,8 @@ public class ArtemisGradingView extends ViewPart {
 				.addResourceChangeListener(event -> Arrays.asList(event.findMarkerDeltas(AssessmentUtilities.MARKER_CLASS_NAME, true)).forEach(marker -> {
 					// check if marker is deleted
 					if (marker.getKind() == 2) {
+						// the penalty listener updates the affected rating group
 						this.viewController.deleteAnnotation((String) marker.getAttribute(AssessmentUtilities.MARKER_ATTRIBUTE_ANNOTATION_ID));
-						this.updatePenalties();
 					}
 				}));
 	}
@@ -131,6 +138,10 @@ public class ArtemisGradingView extends ViewPart {
 		refreshButton.addListener(SWT.Selection, e -> this.fillBacklogComboWithData(backlogCombo));
 	}
 
+	private void addSelectionListenerForPrepareBacklogButton(Button prepareButton) {
+		prepareButton.addListener(SWT.Selection, e -> this.viewController.onPrepareBacklog());
+	}
+
 	private void addSelectionListenerForReloadButton(Button btnReloadA) {
 		btnReloadA.addListener(SWT.Selection, e -> {
 			this.viewController.onReloadAssessment();
@@ -169,6 +180,9 @@ public class ArtemisGradingView extends ViewPart {
 	private void addSelectionListenerForSubmitButton(Button btnSubmit) {
 		btnSubmit.addListener(SWT.Selection, e -> {
 			this.viewController.onSubmitAssessment();
+			if (!this.viewController.isAssessmentStarted()) {
+				this.listenToPenalties(null);
+			}
 			this.updateState();
 			this.result.reset();
 		});
@@ -190,16 +204,18 @@ public class ArtemisGradingView extends ViewPart {
 		var backlogCombo = assessmentTab.comboBacklogSubmission;
 		var refreshButton = assessmentTab.btnBacklogRefreshSubmissions;
 		var btnLoadAgain = assessmentTab.btnBacklogLoadSubmission;
+		var btnPrepare = assessmentTab.btnBacklogPrepareSubmissions;
 
 		this.addSelectionListenerForRefreshButton(refreshButton, backlogCombo);
 		this.addSelectionListenerForLoadFromBacklogButton(backlogCombo, btnLoadAgain);
+		this.addSelectionListenerForPrepareBacklogButton(btnPrepare);
 	}
 
 	private void createResultTab(TabFolder tabFolder) {
 		this.result = new ResultTab(Activator.getDefault().getSystemwideController(), tabFolder);
 	}
 
-	private void createCustomButton(IRatingGroup ratingGroup, Group rgDisplay, IMistakeType mistake) {
+	private void createCustomButton(Group rgDisplay, IMistakeType mistake) {
 		final Button customButton = new Button(rgDisplay, SWT.PUSH);
 		customButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
 		customButton.setText(mistake.getButtonText(I18N().key()));
@@ -208,8 +224,6 @@ public class ArtemisGradingView extends ViewPart {
 					this.viewController, mistake);
 			customDialog.setBlockOnOpen(true);
 			customDialog.open();
-			// avoid SWT Exception
-			Display.getDefault().asyncExec(() -> this.updatePenalty(ratingGroup.getIdentifier()));
 		});
 	}
 
@@ -269,6 +283,7 @@ public class ArtemisGradingView extends ViewPart {
 	private void addSelectionListenerForCloseAssessmentButton(Button btnCloseAssessment) {
 		btnCloseAssessment.addListener(SWT.Selection, e -> {
 			this.viewController.onCloseAssessment();
+			this.listenToPenalties(null);
 			this.updateState();
 			this.result.reset();
 		});
@@ -282,6 +297,7 @@ public class ArtemisGradingView extends ViewPart {
 		var container = this.gradingTabComposite.gradingCompositeContainerScrollable;
 		this.gradingButtonComposite = new Composite(container, SWT.NONE);
 		this.viewController.setCurrentAssessmentController();
+		this.listenToPenalties(this.viewController.getAssessmentController());
 		this.gradingButtonComposite.setLayout(new GridLayout(1, true));
 		this.viewController.getRatingGroups().forEach(ratingGroup -> {
 			final Group rgDisplay = new Group(this.gradingButtonComposite, SWT.NONE);
@@ -292,38 +308,31 @@ public class ArtemisGradingView extends ViewPart {
 			rgDisplay.setLayout(gridLayout);
 			final GridData gridData = new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1);
 			rgDisplay.setLayoutData(gridData);
-			this.viewController.getMistakeTypes().forEach(mistake -> {
-				// TODO Check
-				if (mistake.getRatingGroup().equals(ratingGroup)) {
-					if (mistake.isCustomPenalty()) {
-						this.createCustomButton(ratingGroup, rgDisplay, mistake);
-						return;
-					}
-					final Button mistakeButton = new Button(rgDisplay, SWT.PUSH);
-					mistakeButton.setText(mistake.getButtonText(I18N().key()));
-					mistakeButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
-					mistakeButton.setEnabled(mistake.isEnabledMistakeType());
-					if (!mistake.isEnabledPenalty() && mistake.isEnabledMistakeType()) {
-						mistakeButton.addPaintListener(e -> mistakeButton.setForeground(SWTResourceManager.getColor(133, 153, 0))); // solarized green
-					}
-
-					this.mistakeButtons.put(mistake.getIdentifier(), mistakeButton);
-					mistakeButton.setToolTipText(this.viewController.getToolTipForMistakeType(I18N().key(), mistake));
-
-					KeyboardAwareMouseListener listener = new KeyboardAwareMouseListener();
-					// Normal click
-					listener.setClickHandler(
-							() -> AssessmentUtilities.createAssessmentAnnotation(this.viewController.getAssessmentController(), mistake, null, null),
-							SWT.BUTTON1);
-					// shift-click and middle-click
-					listener.setClickHandler(() -> this.createMistakePenaltyWithCustomMessageDialog(mistake), SWT.SHIFT, SWT.BUTTON2);
-					// every click
-					listener.setClickHandlerForEveryClick(() -> {
-						this.updatePenalty(mistake.getRatingGroup().getIdentifier());
-						this.updateMistakeButtonToolTips(mistake);
-					});
-					mistakeButton.addMouseListener(listener);
+			// in the order of the config
+			ratingGroup.getMistakeTypes().forEach(mistake -> {
+				if (mistake.isCustomPenalty()) {
+					this.createCustomButton(rgDisplay, mistake);
+					return;
 				}
+				final Button mistakeButton = new Button(rgDisplay, SWT.PUSH);
+				mistakeButton.setText(mistake.getButtonText(I18N().key()));
+				mistakeButton.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
+				mistakeButton.setEnabled(mistake.isEnabledMistakeType());
+				if (!mistake.isEnabledPenalty() && mistake.isEnabledMistakeType()) {
+					mistakeButton.addPaintListener(e -> mistakeButton.setForeground(SWTResourceManager.getColor(133, 153, 0))); // solarized green
+				}
+
+				this.mistakeButtons.put(mistake.getIdentifier(), mistakeButton);
+				mistakeButton.setToolTipText(this.viewController.getToolTipForMistakeType(I18N().key(), mistake));
+
+				KeyboardAwareMouseListener listener = new KeyboardAwareMouseListener();
+				// Normal click
+				listener.setClickHandler(
+						() -> AssessmentUtilities.createAssessmentAnnotation(this.viewController.getAssessmentController(), mistake, null, null),
+						SWT.BUTTON1);
+				// shift-click and middle-click
+				listener.setClickHandler(() -> this.createMistakePenaltyWithCustomMessageDialog(mistake), SWT.SHIFT, SWT.BUTTON2);
+				mistakeButton.addMouseListener(listener);
 			});
 		});
 
@@ -390,15 +399,47 @@ public class ArtemisGradingView extends ViewPart {
 		// NOP
 	}
 
+	@Override
+	public void dispose() {
+		this.listenToPenalties(null);
+		// jobs may not run anymore if the workbench shuts down, the locks would leak
+		this.viewController.onReleasePreparedSubmissions(PlatformUI.getWorkbench().isClosing());
+		super.dispose();
+	}
+
 	private void updateMistakeButtonToolTips(IMistakeType mistakeType) {
 		Button button = this.mistakeButtons.get(mistakeType.getIdentifier());
 		if (button != null) {
-			Display.getDefault().asyncExec( //
-					() -> button.setToolTipText(this.viewController.getToolTipForMistakeType(I18N().key(), mistakeType)) //
-			);
+			Display.getDefault().asyncExec(() -> {
+				// notifications that were already queued may arrive after the view is gone
+				if (!button.isDisposed()) {
+					button.setToolTipText(this.viewController.getToolTipForMistakeType(I18N().key(), mistakeType));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Moves the penalty listener to the given assessment controller (or removes
+	 * it if null).
+	 */
+	private void listenToPenalties(IAssessmentController assessmentController) {
+		if (this.listenedAssessmentController != null) {
+			this.listenedAssessmentController.removePenaltyListener(this.penaltyListener);
+		}
+		this.listenedAssessmentController = assessmentController;
+		if (assessmentController != null) {
+			assessmentController.addPenaltyListener(this.penaltyListener);
 		}
 	}
 
+	private void onPenaltiesChanged(Set<IRatingGroup> ratingGroups) {
+		for (IRatingGroup ratingGroup : ratingGroups) {
+			this.updatePenalty(ratingGroup.getIdentifier());
+		}
+		ratingGroups.forEach(ratingGroup -> ratingGroup.getMistakeTypes().forEach(this::updateMistakeButtonToolTips));
+	}
+
 	public void updatePenalties() {
 		this.viewController.getRatingGroups().forEach(ratingGroup -> this.updatePenalty(ratingGroup.getIdentifier()));
 		this.updateAllToolTips();
@@ -427,7 +468,11 @@ public class ArtemisGradingView extends ViewPart {
 			builder.append(" in [").append(lower).append(",").append(upper).append("]");
 		}
 		builder.append(") penalty points");
-		Display.getDefault().asyncExec(() -> viewElement.setText(builder.toString()));
+		Display.getDefault().asyncExec(() -> {
+			if (!viewElement.isDisposed()) {
+				viewElement.setText(builder.toString());
+			}
+		});
 	}
 
 	private void updateState() {
@@ -470,6 +515,8 @@ public class ArtemisGradingView extends ViewPart {
 	}
 
 	private void refreshArtemisState() {
+		this.viewController.onReleasePreparedSubmissions(false);
+		this.listenToPenalties(null);
 		this.viewController = new AssessmentViewController();
 		Activator.getDefault().getSystemwideController().addSubmissionBuildListener(this::openPackagesAndFiles);
 		this.result.setController(Activator.getDefault().getSystemwideController());
@@ -44,6 +44,7 @@ public class AssessmentTab extends AssessmentTabComposite {
 		comboBacklogSubmission.setEnabled(exerciseSelected && !assessmentStarted);
 		btnBacklogRefreshSubmissions.setEnabled(exerciseSelected && !assessmentStarted);
 		btnBacklogLoadSubmission.setEnabled(exerciseSelected && !assessmentStarted);
+		btnBacklogPrepareSubmissions.setEnabled(exerciseSelected);
 
 	}
 
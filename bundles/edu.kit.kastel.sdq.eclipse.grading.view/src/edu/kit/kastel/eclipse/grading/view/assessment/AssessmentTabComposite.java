@@ -38,6 +38,7 @@ public class AssessmentTabComposite extends Composite {
 	protected Combo comboBacklogSubmission;
 	protected Button btnBacklogRefreshSubmissions;
 	protected Button btnBacklogLoadSubmission;
+	protected Button btnBacklogPrepareSubmissions;
 
 	/**
 	 * Create the composite.
@@ -142,7 +143,7 @@ public class AssessmentTabComposite extends Composite {
 		comboBacklogSubmission.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 1, 1));
 
 		Composite compositeBacklogButtons = new Composite(grpBacklog, SWT.NONE);
-		compositeBacklogButtons.setLayout(new GridLayout(2, true));
+		compositeBacklogButtons.setLayout(new GridLayout(3, true));
 		compositeBacklogButtons.setLayoutData(new GridData(SWT.CENTER, SWT.CENTER, true, false, 2, 1));
 
 		btnBacklogRefreshSubmissions = new Button(compositeBacklogButtons, SWT.NONE);
@@ -153,6 +154,10 @@ public class AssessmentTabComposite extends Composite {
 		btnBacklogLoadSubmission.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
 		btnBacklogLoadSubmission.setText(I18N().reloadAssessment());
 
+		btnBacklogPrepareSubmissions = new Button(compositeBacklogButtons, SWT.NONE);
+		btnBacklogPrepareSubmissions.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, false, false, 1, 1));
+		btnBacklogPrepareSubmissions.setText(I18N().backlogPrepare());
+
 		Composite bottomComposite = new Composite(this, SWT.NONE);
 		bottomComposite.setLayoutData(new GridData(SWT.FILL, SWT.BOTTOM, true, true, 2, 1));
 		bottomComposite.setLayout(new GridLayout(2, false));
@@ -139,6 +139,22 @@ public class AssessmentViewController extends AbstractArtemisViewController<IGra
 		this.systemwideController.closeAssessment();
 	}
 
+	/**
+	 * Releases the submissions that have been prepared in advance
+	 *
+	 * @param wait whether to release them before returning
+	 */
+	public void onReleasePreparedSubmissions(boolean wait) {
+		this.systemwideController.releasePreparedSubmissions(wait);
+	}
+
+	/**
+	 * Prepares all submissions of the backlog in the background
+	 */
+	public void onPrepareBacklog() {
+		this.systemwideController.prepareBacklog();
+	}
+
 	/**
 	 * @param projectName (of the selected assessment)
 	 */
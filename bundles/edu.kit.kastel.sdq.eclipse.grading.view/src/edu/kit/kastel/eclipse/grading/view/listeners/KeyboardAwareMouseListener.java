@@ -18,7 +18,6 @@ import org.eclipse.swt.events.MouseListener;
 public class KeyboardAwareMouseListener implements MouseListener {
 
 	private final Map<Integer, Runnable> listeners;
-	private Runnable onEveryClick;
 
 	public KeyboardAwareMouseListener() {
 		this.listeners = new HashMap<>();
@@ -27,18 +26,6 @@ public class KeyboardAwareMouseListener implements MouseListener {
 	@Override
 	public void mouseUp(MouseEvent e) {
 		this.invokeClickHandler(this.listeners.get(e.stateMask));
-		this.invokeClickHandler(onEveryClick);
-	}
-
-	/**
-	 * Sets the click-handler which will be called on every click this listeners
-	 * handles. This handler will be invoked <strong>after</strong> all other
-	 * handlers.
-	 * 
-	 * @param handler the handler to be set
-	 */
-	public void setClickHandlerForEveryClick(Runnable handler) {
-		this.onEveryClick = handler;
 	}
 
 	/**